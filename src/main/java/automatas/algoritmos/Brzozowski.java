@@ -0,0 +1,164 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import automatas.core.AFND;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimización de Brzozowski: invertir → determinizar → invertir →
+ * determinizar. Determinizar el reverso de un AFD accesible da el AFD mínimo
+ * del lenguaje original, así que se pasa de un AFND al AFD mínimo (parcial)
+ * sin construir el AFD intermedio completo de la construcción por
+ * subconjuntos, que en algunas familias de expresiones explota aunque el
+ * mínimo sea chico. En otras es al revés: el reverso es el que explota.
+ */
+public class Brzozowski {
+
+    private final AFND afnd;
+    private AFD intermedio;
+
+    public Brzozowski(AFND afnd) {
+        this.afnd = afnd;
+    }
+
+    /**
+     * @return AFD mínimo que acepta el mismo lenguaje que el AFND
+     */
+    public AFD minimizar() throws IOException {
+        intermedio = determinizar(invertir(afnd));
+        return determinizarReverso(intermedio);
+    }
+
+    /**
+     * AFD del lenguaje reverso obtenido en el primer paso (null antes de minimizar).
+     */
+    public AFD getIntermedio() {
+        return intermedio;
+    }
+
+    private static AFD determinizar(AFND afnd) throws IOException {
+        Conversion conversion = new Conversion(afnd);
+        conversion.setGuardarCSV(false);
+        return conversion.convertir();
+    }
+
+    /**
+     * Invierte todas las transiciones (incluidas las ε); el nuevo inicial va
+     * por ε a los antiguos finales y el único final es el antiguo inicial.
+     * Basta para el primer paso, que solo necesita un AFD accesible.
+     */
+    private static AFND invertir(AFND afnd) {
+        String inicial = "inicio";
+        for (int i = 0; afnd.getEstados().contains(inicial); i++) {
+            inicial = "inicio" + i;
+        }
+
+        Set<String> estados = new HashSet<>(afnd.getEstados());
+        estados.add(inicial);
+        Set<Character> alfabeto = new HashSet<>();
+        Map<String, Map<Character, Set<String>>> invertidas = new HashMap<>();
+        for (Map.Entry<String, Map<Character, Set<String>>> entry : afnd.getTransiciones().entrySet()) {
+            for (Map.Entry<Character, Set<String>> t : entry.getValue().entrySet()) {
+                if (t.getKey() != null) {
+                    alfabeto.add(t.getKey());
+                }
+                for (String destino : t.getValue()) {
+                    invertidas.computeIfAbsent(destino, k -> new HashMap<>())
+                            .computeIfAbsent(t.getKey(), k -> new HashSet<>())
+                            .add(entry.getKey());
+                }
+            }
+        }
+        invertidas.computeIfAbsent(inicial, k -> new HashMap<>())
+                .put(null, new HashSet<>(afnd.getEstadosFinales()));
+
+        return new AFND(estados, alfabeto, invertidas, inicial,
+                new HashSet<>(Set.of(afnd.getEstadoInicial())));
+    }
+
+    /**
+     * Construcción por subconjuntos del reverso del AFD, partiendo del
+     * conjunto de sus finales. Aquí no puede usarse un inicial nuevo con ε
+     * como en {@link #invertir(AFND)}: ese estado distinguiría al conjunto
+     * inicial de otro igual sin él y el resultado dejaría de ser mínimo.
+     */
+    private static AFD determinizarReverso(AFD afd) {
+        Map<String, Integer> indices = new HashMap<>();
+        String[] nombres = afd.getEstados().toArray(new String[0]);
+        for (int i = 0; i < nombres.length; i++) {
+            indices.put(nombres[i], i);
+        }
+        Set<Character> alfabeto = new HashSet<>(afd.getAlfabeto());
+
+        // Predecesores de cada estado por símbolo
+        Map<Character, List<List<Integer>>> predecesores = new HashMap<>();
+        for (Map.Entry<String, Map<Character, String>> entry : afd.getTransiciones().entrySet()) {
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                alfabeto.add(t.getKey());
+                List<List<Integer>> porEstado = predecesores.computeIfAbsent(t.getKey(), k -> {
+                    List<List<Integer>> l = new ArrayList<>();
+                    for (int i = 0; i < nombres.length; i++) l.add(null);
+                    return l;
+                });
+                int destino = indices.get(t.getValue());
+                if (porEstado.get(destino) == null) {
+                    porEstado.set(destino, new ArrayList<>());
+                }
+                porEstado.get(destino).add(indices.get(entry.getKey()));
+            }
+        }
+
+        BitSet inicial = new BitSet(nombres.length);
+        for (String f : afd.getEstadosFinales()) {
+            inicial.set(indices.get(f));
+        }
+        int original = indices.get(afd.getEstadoInicial());
+
+        Map<BitSet, Integer> estadoAId = new HashMap<>();
+        List<BitSet> idAEstado = new ArrayList<>();
+        estadoAId.put(inicial, 0);
+        idAEstado.add(inicial);
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        Set<String> finales = new HashSet<>();
+
+        for (int id = 0; id < idAEstado.size(); id++) {
+            BitSet actual = idAEstado.get(id);
+            if (actual.get(original)) {
+                finales.add("q" + id);
+            }
+            Map<Character, String> trans = new HashMap<>();
+            for (Map.Entry<Character, List<List<Integer>>> entry : predecesores.entrySet()) {
+                BitSet destino = new BitSet(nombres.length);
+                for (int q = actual.nextSetBit(0); q >= 0; q = actual.nextSetBit(q + 1)) {
+                    List<Integer> p = entry.getValue().get(q);
+                    if (p != null) {
+                        for (int origen : p) {
+                            destino.set(origen);
+                        }
+                    }
+                }
+                if (destino.isEmpty()) {
+                    continue;
+                }
+                Integer idDestino = estadoAId.get(destino);
+                if (idDestino == null) {
+                    idDestino = idAEstado.size();
+                    estadoAId.put(destino, idDestino);
+                    idAEstado.add(destino);
+                }
+                trans.put(entry.getKey(), "q" + idDestino);
+            }
+            transiciones.put("q" + id, trans);
+        }
+
+        // Con el lenguaje vacío el conjunto inicial es vacío y queda un solo estado
+        return new AFD(new HashSet<>(transiciones.keySet()), alfabeto, transiciones, "q0", finales);
+    }
+}
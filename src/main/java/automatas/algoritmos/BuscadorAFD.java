@@ -0,0 +1,156 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import automatas.core.AFDCompilado;
+import automatas.core.AFND;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Búsqueda de subcadenas aceptadas por un AFD dentro de un texto, con
+ * semántica leftmost-longest: de izquierda a derecha, cada coincidencia empieza
+ * en la primera posición posible y se extiende lo más que se pueda, sin
+ * solaparse con la anterior.
+ *
+ * Los inicios se obtienen en una sola pasada de derecha a izquierda con el AFD
+ * de Σ*·reverso(L), construido invirtiendo el AFD y determinizándolo con
+ * {@link Conversion}: tras leer texto[i..n) al revés, ese AFD está en un
+ * estado final si y solo si alguna subcadena que empieza en i pertenece a L.
+ * Después, desde cada inicio, el AFD original avanza hasta morir (quedarse sin
+ * transición o entrar en un estado desde el que ya no se alcanza ningún final)
+ * y se queda con el último final visto.
+ */
+public class BuscadorAFD {
+
+    /**
+     * Subcadena texto[inicio, fin) aceptada por el AFD.
+     */
+    public record Coincidencia(int inicio, int fin) {
+        public int longitud() {
+            return fin - inicio;
+        }
+    }
+
+    private final AFDCompilado adelante;
+    private final AFDCompilado inicios;
+
+    public BuscadorAFD(AFD afd) throws IOException {
+        this.adelante = afd.compilar();
+        Conversion conversion = new Conversion(reversoConPrefijo(afd));
+        conversion.setGuardarCSV(false);
+        this.inicios = conversion.convertir().compilar();
+    }
+
+    /**
+     * AFND de Σ*·reverso(L(afd)): un estado nuevo con lazos para todo el
+     * alfabeto y ε hacia los finales del AFD, con las transiciones invertidas.
+     */
+    private static AFND reversoConPrefijo(AFD afd) {
+        String inicial = "inicio";
+        for (int i = 0; afd.getEstados().contains(inicial); i++) {
+            inicial = "inicio" + i;
+        }
+
+        Set<String> estados = new HashSet<>(afd.getEstados());
+        estados.add(inicial);
+        Set<Character> alfabeto = new HashSet<>(afd.getAlfabeto());
+
+        Map<String, Map<Character, Set<String>>> transiciones = new HashMap<>();
+        for (Map.Entry<String, Map<Character, String>> entry : afd.getTransiciones().entrySet()) {
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                transiciones.computeIfAbsent(t.getValue(), k -> new HashMap<>())
+                        .computeIfAbsent(t.getKey(), k -> new HashSet<>())
+                        .add(entry.getKey());
+            }
+        }
+
+        Map<Character, Set<String>> desdeInicial = new HashMap<>();
+        for (Character c : alfabeto) {
+            desdeInicial.put(c, new HashSet<>(Set.of(inicial)));
+        }
+        desdeInicial.put(null, new HashSet<>(afd.getEstadosFinales()));
+        transiciones.put(inicial, desdeInicial);
+
+        Set<String> finales = new HashSet<>();
+        if (afd.getEstadoInicial() != null) {
+            finales.add(afd.getEstadoInicial());
+        }
+        return new AFND(estados, alfabeto, transiciones, inicial, finales);
+    }
+
+    /**
+     * Todas las coincidencias, en orden y sin solaparse. Una coincidencia
+     * vacía en la posición i hace que la búsqueda siga desde i + 1.
+     */
+    public List<Coincidencia> buscarTodas(CharSequence texto) {
+        List<Coincidencia> resultado = new ArrayList<>();
+        BitSet marcas = marcarInicios(texto);
+        int desde = 0;
+        int i;
+        while (desde <= texto.length() && (i = marcas.nextSetBit(desde)) >= 0) {
+            int fin = finMasLargo(texto, i);
+            resultado.add(new Coincidencia(i, fin));
+            desde = fin > i ? fin : i + 1;
+        }
+        return resultado;
+    }
+
+    /**
+     * Primera coincidencia leftmost-longest, o null si no hay ninguna.
+     */
+    public Coincidencia buscarPrimera(CharSequence texto) {
+        int i = marcarInicios(texto).nextSetBit(0);
+        return i < 0 ? null : new Coincidencia(i, finMasLargo(texto, i));
+    }
+
+    /**
+     * Pasada de derecha a izquierda: bit i encendido si alguna coincidencia
+     * empieza en i (0 <= i <= n). Un carácter fuera del alfabeto corta
+     * cualquier coincidencia, así que el AFD vuelve a su estado inicial.
+     */
+    private BitSet marcarInicios(CharSequence texto) {
+        final int n = texto.length();
+        BitSet marcas = new BitSet(n + 1);
+        final int inicial = inicios.getEstadoInicial();
+        int estado = inicial;
+        if (inicios.esFinal(estado)) {
+            marcas.set(n);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int col = inicios.columna(texto.charAt(i));
+            estado = col == AFDCompilado.SIN_TRANSICION
+                    ? inicial
+                    : inicios.siguientePorColumna(estado, col);
+            if (inicios.esFinal(estado)) {
+                marcas.set(i);
+            }
+        }
+        return marcas;
+    }
+
+    /**
+     * Fin de la coincidencia más larga que empieza en {@code inicio}; el
+     * llamador garantiza que existe al menos una.
+     */
+    private int finMasLargo(CharSequence texto, int inicio) {
+        int estado = adelante.getEstadoInicial();
+        int fin = inicio;
+        final int n = texto.length();
+        for (int j = inicio; j < n; j++) {
+            estado = adelante.siguiente(estado, texto.charAt(j));
+            if (estado == AFDCompilado.SIN_TRANSICION || !adelante.esVivo(estado)) {
+                break;
+            }
+            if (adelante.esFinal(estado)) {
+                fin = j + 1;
+            }
+        }
+        return fin;
+    }
+}
@@ -4,12 +4,31 @@ import java.util.*;
 import java.util.stream.Collectors;
 import automatas.core.AFD;
 import automatas.core.AFND;
+import automatas.core.Automata;
 import automatas.io.EscritorAutomata;
 import java.io.IOException;
 
 public class Conversion {
+
+    /**
+     * Implementación de la construcción por subconjuntos.
+     */
+    public enum Algoritmo {
+        /** Conjuntos de nombres y clausuras recalculadas; referencia, la usa el modo debug. */
+        CADENAS,
+        /** Estados enteros, clausuras precalculadas y conjuntos como bits ({@link Determinizador}). */
+        BITS,
+        /** Igual que BITS, calculando cada capa de la BFS en paralelo; mismo resultado. */
+        PARALELO
+    }
+
     private AFND afnd;
     private boolean debug = false;
+    private boolean guardarCSV = true;
+    private Algoritmo algoritmo = Algoritmo.BITS;
+    // null: sin límite en convertir() y Limites.porDefecto() en convertirConRespaldo()
+    private Determinizador.Limites limites;
+    private ExplosionEstadosException explosion;
     
     public Conversion(AFND afnd) {
         this.afnd = afnd;
@@ -18,8 +37,78 @@ public class Conversion {
     public void setDebug(boolean debug) {
         this.debug = debug;
     }
+
+    /**
+     * Si es false, el AFD resultante no se escribe en ~/.automatas/csv/afd.csv
+     * (para conversiones internas que no deben pisar el archivo del usuario).
+     */
+    public void setGuardarCSV(boolean guardarCSV) {
+        this.guardarCSV = guardarCSV;
+    }
+    
+    /**
+     * Elige la implementación; con debug activo siempre se usa CADENAS, que
+     * es la que imprime el proceso.
+     */
+    public void setAlgoritmo(Algoritmo algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+    
+    public Algoritmo getAlgoritmo() {
+        return algoritmo;
+    }
+    
+    /**
+     * Presupuesto de la conversión; al superarlo {@link #convertir()} lanza
+     * {@link ExplosionEstadosException}. Sin fijarlo, {@link #convertir()} no
+     * tiene límite (igual que {@link Determinizador}) y
+     * {@link #convertirConRespaldo()} usa {@link Determinizador.Limites#porDefecto()}.
+     */
+    public void setLimites(Determinizador.Limites limites) {
+        this.limites = limites;
+    }
+    
+    /**
+     * Presupuesto fijado con {@link #setLimites}, o null si no se fijó.
+     */
+    public Determinizador.Limites getLimites() {
+        return limites;
+    }
+    
+    /**
+     * Como {@link #convertir()}, pero si se supera el presupuesto devuelve el
+     * AFND original en lugar de fallar: su {@code acepta} usa el AFD perezoso
+     * con caché acotada, así que sigue respondiendo sin materializar el AFD.
+     * El diagnóstico queda en {@link #getExplosion()}.
+     */
+    public Automata convertirConRespaldo() throws IOException {
+        explosion = null;
+        try {
+            return convertir(limites != null ? limites : Determinizador.Limites.porDefecto());
+        } catch (ExplosionEstadosException e) {
+            explosion = e;
+            return afnd;
+        }
+    }
+    
+    /**
+     * Motivo del último respaldo de {@link #convertirConRespaldo()}, o null si
+     * la conversión terminó.
+     */
+    public ExplosionEstadosException getExplosion() {
+        return explosion;
+    }
     
     public AFD convertir() throws IOException {
+        return convertir(limites != null ? limites : Determinizador.Limites.SIN_LIMITE);
+    }
+
+    private AFD convertir(Determinizador.Limites limites) throws IOException {
+        if (!debug && algoritmo != Algoritmo.CADENAS) {
+            boolean paralelo = algoritmo == Algoritmo.PARALELO;
+            return guardar(new Determinizador(afnd.compilar(), paralelo, limites).aAFD());
+        }
+        
         if (debug) {
             System.out.println("\n========================================");
             System.out.println("INICIANDO CONVERSIÓN AFND -> AFD");
@@ -63,6 +152,7 @@ public class Conversion {
         }
         
         int pasos = 0;
+        long numTransiciones = 0;
         while (!cola.isEmpty()) {
             int idActual = cola.poll();
             Set<String> estadoActual = idAEstado.get(idActual);
@@ -102,9 +192,13 @@ public class Conversion {
                         if (debug) System.out.println("    → NUEVO estado " + idDestino + " descubierto");
                     }
                     transEstado.put(simbolo, idDestino);
+                    numTransiciones++;
                 }
             }
             transiciones.put(idActual, transEstado);
+            if (idAEstado.size() > limites.estados() || numTransiciones > limites.transiciones()) {
+                throw new ExplosionEstadosException(idAEstado.size(), numTransiciones, 0, limites);
+            }
         }
         
         if (debug) {
@@ -214,10 +308,15 @@ public class Conversion {
                 System.out.println("  " + nombres.get(i) + " = " + estados.get(i));
             }
         }
-        AFD afd = new AFD(estadosStr, alfabeto, transStr, nombres.get(0), finalesStr);
-        String userHome = System.getProperty("user.home");
-        String rutaCSV = userHome + "/.automatas/csv/afd.csv";
-        EscritorAutomata.guardarAFD(afd, rutaCSV);
+        return guardar(new AFD(estadosStr, alfabeto, transStr, nombres.get(0), finalesStr));
+    }
+    
+    private AFD guardar(AFD afd) throws IOException {
+        if (guardarCSV) {
+            String userHome = System.getProperty("user.home");
+            String rutaCSV = userHome + "/.automatas/csv/afd.csv";
+            EscritorAutomata.guardarAFD(afd, rutaCSV);
+        }
         return afd;
     }
     
@@ -0,0 +1,327 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import automatas.core.AFNDCompilado;
+import automatas.core.ConjuntoEstados;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Construcción por subconjuntos sobre un {@link AFNDCompilado}.
+ *
+ * Los estados del AFND son enteros, las ε-clausuras ya vienen precalculadas
+ * en las máscaras de sucesores y cada estado del AFD es un
+ * {@link ConjuntoEstados} (bits con hash en caché). Los estados se numeran en
+ * orden BFS desde el inicial, recorriendo los símbolos en orden ascendente.
+ * El resultado queda como tabla densa de enteros.
+ *
+ * En modo paralelo la BFS avanza por capas: los sucesores de todos los
+ * estados de la capa se calculan en el pool común de ForkJoin, los conjuntos
+ * nuevos se internan en un mapa concurrente y luego se numeran en una pasada
+ * secuencial en el mismo orden (estado, símbolo) que la BFS secuencial, de
+ * modo que ambos modos dan exactamente el mismo AFD.
+ *
+ * La construcción respeta un presupuesto ({@link Limites}) de estados,
+ * transiciones y memoria estimada; al superarlo lanza
+ * {@link ExplosionEstadosException} en lugar de seguir creciendo.
+ */
+public final class Determinizador {
+
+    /** Valor de la tabla cuando no hay transición. */
+    public static final int SIN_TRANSICION = -1;
+
+    // Estados por tarea al calcular una capa en paralelo
+    private static final int BLOQUE_CAPA = 32;
+
+    /**
+     * Presupuesto de la construcción. La memoria es una estimación de lo que
+     * ocupan los conjuntos, el índice y la tabla, no una medición del heap.
+     */
+    public record Limites(int estados, long transiciones, long bytes) implements Serializable {
+
+        public static final Limites SIN_LIMITE = new Limites(Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        public Limites {
+            if (estados <= 0 || transiciones <= 0 || bytes <= 0) {
+                throw new IllegalArgumentException("Los límites deben ser positivos");
+            }
+        }
+
+        /**
+         * Un millón de estados, 50 millones de transiciones y la mitad del
+         * heap máximo de la JVM.
+         */
+        public static Limites porDefecto() {
+            return new Limites(1_000_000, 50_000_000L, Runtime.getRuntime().maxMemory() / 2);
+        }
+    }
+
+    // Bytes aproximados por estado además de sus palabras: objeto, arreglo, entrada del índice
+    private static final int BYTES_POR_ESTADO = 112;
+
+    private final AFNDCompilado afnd;
+    private final Limites limites;
+    private final int numSimbolos;
+    private final List<ConjuntoEstados> conjuntos = new ArrayList<>();
+    private int[] tabla;
+    private long numTransiciones;
+
+    public Determinizador(AFNDCompilado afnd) {
+        this(afnd, false);
+    }
+
+    public Determinizador(AFNDCompilado afnd, boolean paralelo) {
+        this(afnd, paralelo, Limites.SIN_LIMITE);
+    }
+
+    public Determinizador(AFNDCompilado afnd, boolean paralelo, Limites limites) {
+        this.afnd = afnd;
+        this.limites = limites;
+        this.numSimbolos = afnd.getNumSimbolos();
+        if (paralelo) {
+            construirPorCapas();
+        } else {
+            construir();
+        }
+    }
+
+    private void construir() {
+        Map<ConjuntoEstados, Integer> indice = new HashMap<>();
+        tabla = new int[16 * Math.max(1, numSimbolos)];
+
+        long[] inicial = afnd.nuevoConjunto();
+        afnd.copiarInicial(inicial);
+        ConjuntoEstados c0 = new ConjuntoEstados(inicial);
+        indice.put(c0, 0);
+        conjuntos.add(c0);
+
+        // La lista de conjuntos hace de cola: se procesan en orden de descubrimiento
+        long[] destino = afnd.nuevoConjunto();
+        for (int actual = 0; actual < conjuntos.size(); actual++) {
+            long[] bits = conjuntos.get(actual).getBits();
+            if ((actual + 1) * numSimbolos > tabla.length) {
+                tabla = Arrays.copyOf(tabla, Math.max(tabla.length * 2, (actual + 1) * numSimbolos));
+            }
+            for (int col = 0; col < numSimbolos; col++) {
+                int siguiente = SIN_TRANSICION;
+                if (afnd.moverPorColumna(bits, col, destino)) {
+                    ConjuntoEstados conjunto = new ConjuntoEstados(destino.clone());
+                    Integer existente = indice.get(conjunto);
+                    if (existente == null) {
+                        existente = conjuntos.size();
+                        indice.put(conjunto, existente);
+                        conjuntos.add(conjunto);
+                    }
+                    siguiente = existente;
+                    numTransiciones++;
+                }
+                tabla[actual * numSimbolos + col] = siguiente;
+            }
+            verificarLimites();
+        }
+        tabla = Arrays.copyOf(tabla, conjuntos.size() * numSimbolos);
+    }
+
+    private void construirPorCapas() {
+        // Solo se modifica en la pasada secuencial; las tareas únicamente lo leen
+        Map<ConjuntoEstados, Integer> indice = new HashMap<>();
+        tabla = new int[16 * Math.max(1, numSimbolos)];
+
+        long[] inicial = afnd.nuevoConjunto();
+        afnd.copiarInicial(inicial);
+        ConjuntoEstados c0 = new ConjuntoEstados(inicial);
+        indice.put(c0, 0);
+        conjuntos.add(c0);
+
+        int desde = 0;
+        while (desde < conjuntos.size()) {
+            int hasta = conjuntos.size();
+            int tamano = hasta - desde;
+            if (hasta * numSimbolos > tabla.length) {
+                tabla = Arrays.copyOf(tabla, Math.max(tabla.length * 2, hasta * numSimbolos));
+            }
+
+            // Sucesores de la capa: estados conocidos como índice, nuevos como conjunto
+            ConjuntoEstados[] nuevos = new ConjuntoEstados[tamano * numSimbolos];
+            ConcurrentHashMap<ConjuntoEstados, ConjuntoEstados> internados = new ConcurrentHashMap<>();
+            CalculoCapa calculo = new CalculoCapa(indice, internados, nuevos, desde, desde, hasta);
+            if (tamano <= BLOQUE_CAPA) {
+                calculo.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(calculo);
+            }
+
+            // Numerar los nuevos en el orden de la BFS secuencial
+            for (int i = 0; i < nuevos.length; i++) {
+                ConjuntoEstados conjunto = nuevos[i];
+                if (conjunto == null) {
+                    continue;
+                }
+                Integer existente = indice.get(conjunto);
+                if (existente == null) {
+                    existente = conjuntos.size();
+                    indice.put(conjunto, existente);
+                    conjuntos.add(conjunto);
+                    if (conjuntos.size() > limites.estados()) {
+                        verificarLimites();
+                    }
+                }
+                tabla[desde * numSimbolos + i] = existente;
+            }
+            for (int i = desde * numSimbolos; i < hasta * numSimbolos; i++) {
+                if (tabla[i] != SIN_TRANSICION) {
+                    numTransiciones++;
+                }
+            }
+            verificarLimites();
+            desde = hasta;
+        }
+        tabla = Arrays.copyOf(tabla, conjuntos.size() * numSimbolos);
+    }
+
+    private void verificarLimites() {
+        long bytes = getBytesEstimados();
+        if (conjuntos.size() > limites.estados() || numTransiciones > limites.transiciones()
+                || bytes > limites.bytes()) {
+            throw new ExplosionEstadosException(conjuntos.size(), numTransiciones, bytes, limites);
+        }
+    }
+
+    /**
+     * Memoria aproximada de los conjuntos, el índice y la tabla de transiciones.
+     */
+    public long getBytesEstimados() {
+        long porEstado = BYTES_POR_ESTADO + 8L * afnd.getNumPalabras() + 4L * numSimbolos;
+        return conjuntos.size() * porEstado;
+    }
+
+    /**
+     * Calcula los sucesores de los estados [desde, hasta) de una capa. Escribe
+     * en la tabla los destinos ya numerados y deja los conjuntos nuevos
+     * (internados, para compartir una sola instancia) en {@code nuevos}.
+     * Durante el cálculo el índice solo se lee.
+     */
+    private final class CalculoCapa extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Las tareas nunca se serializan
+        private final transient Map<ConjuntoEstados, Integer> indice;
+        private final transient ConcurrentHashMap<ConjuntoEstados, ConjuntoEstados> internados;
+        private final transient ConjuntoEstados[] nuevos;
+        private final int inicioCapa;
+        private final int desde;
+        private final int hasta;
+
+        CalculoCapa(Map<ConjuntoEstados, Integer> indice,
+                    ConcurrentHashMap<ConjuntoEstados, ConjuntoEstados> internados,
+                    ConjuntoEstados[] nuevos, int inicioCapa, int desde, int hasta) {
+            this.indice = indice;
+            this.internados = internados;
+            this.nuevos = nuevos;
+            this.inicioCapa = inicioCapa;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde > BLOQUE_CAPA) {
+                int medio = (desde + hasta) >>> 1;
+                invokeAll(new CalculoCapa(indice, internados, nuevos, inicioCapa, desde, medio),
+                        new CalculoCapa(indice, internados, nuevos, inicioCapa, medio, hasta));
+                return;
+            }
+            long[] destino = afnd.nuevoConjunto();
+            for (int actual = desde; actual < hasta; actual++) {
+                long[] bits = conjuntos.get(actual).getBits();
+                for (int col = 0; col < numSimbolos; col++) {
+                    int posicion = actual * numSimbolos + col;
+                    tabla[posicion] = SIN_TRANSICION;
+                    if (!afnd.moverPorColumna(bits, col, destino)) {
+                        continue;
+                    }
+                    ConjuntoEstados conjunto = new ConjuntoEstados(destino.clone());
+                    Integer existente = indice.get(conjunto);
+                    if (existente != null) {
+                        tabla[posicion] = existente;
+                    } else {
+                        ConjuntoEstados previo = internados.putIfAbsent(conjunto, conjunto);
+                        nuevos[posicion - inicioCapa * numSimbolos] = previo != null ? previo : conjunto;
+                    }
+                }
+            }
+        }
+    }
+
+    public int getNumEstados() {
+        return conjuntos.size();
+    }
+
+    public long getNumTransiciones() {
+        return numTransiciones;
+    }
+
+    public int getNumSimbolos() {
+        return numSimbolos;
+    }
+
+    public char getSimbolo(int columna) {
+        return afnd.getSimbolo(columna);
+    }
+
+    /**
+     * Estado destino, o {@link #SIN_TRANSICION}.
+     */
+    public int getTransicion(int estado, int columna) {
+        return tabla[estado * numSimbolos + columna];
+    }
+
+    public boolean esFinal(int estado) {
+        return afnd.contieneFinal(conjuntos.get(estado).getBits());
+    }
+
+    /**
+     * Conjunto de estados del AFND que representa el estado del AFD.
+     */
+    public ConjuntoEstados getConjunto(int estado) {
+        return conjuntos.get(estado);
+    }
+
+    /**
+     * AFD con estados q0, q1, ... en el orden de numeración (q0 es el inicial).
+     */
+    public AFD aAFD() {
+        Set<String> estados = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Set<Character> alfabeto = new HashSet<>();
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        for (int col = 0; col < numSimbolos; col++) {
+            alfabeto.add(afnd.getSimbolo(col));
+        }
+        for (int e = 0; e < conjuntos.size(); e++) {
+            String nombre = "q" + e;
+            estados.add(nombre);
+            if (esFinal(e)) {
+                finales.add(nombre);
+            }
+            Map<Character, String> trans = new HashMap<>();
+            for (int col = 0; col < numSimbolos; col++) {
+                int destino = tabla[e * numSimbolos + col];
+                if (destino != SIN_TRANSICION) {
+                    trans.put(afnd.getSimbolo(col), "q" + destino);
+                }
+            }
+            transiciones.put(nombre, trans);
+        }
+        return new AFD(estados, alfabeto, transiciones, "q0", finales);
+    }
+}
@@ -0,0 +1,159 @@
+package automatas.algoritmos;
+
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Convierte un AFND con transiciones ε en uno equivalente sin ellas y le quita
+ * los estados inútiles.
+ *
+ * δ'(q, a) = ∪ δ(p, a) para p en la ε-clausura de q, y q es final si su
+ * clausura contiene un final. Después solo se conservan los estados
+ * alcanzables desde el inicial que además llegan a algún final. En un AFND de
+ * Thompson quedan el inicial y los destinos de las transiciones con símbolo,
+ * es decir, unos pocos estados por literal en lugar de los de cada operador.
+ * Los nombres de los estados se conservan.
+ */
+public class EliminacionEpsilon {
+
+    private final AFND afnd;
+
+    public EliminacionEpsilon(AFND afnd) {
+        this.afnd = afnd;
+    }
+
+    public AFND eliminar() {
+        AFNDCompilado compilado = afnd.compilar();
+        final int n = compilado.getNumEstados();
+        Map<String, Integer> indices = new HashMap<>();
+        for (int q = 0; q < n; q++) {
+            indices.put(compilado.getNombre(q), q);
+        }
+
+        Set<Character> alfabeto = new HashSet<>(afnd.getAlfabeto());
+        alfabeto.remove(null);
+        if (afnd.getEstadoInicial() == null) {
+            return new AFND(new HashSet<>(), alfabeto, new HashMap<>(), null, new HashSet<>());
+        }
+        int inicial = indices.get(afnd.getEstadoInicial());
+
+        // Transiciones con símbolo del AFND original, como enteros
+        List<Map<Character, int[]>> directas = new ArrayList<>();
+        for (int q = 0; q < n; q++) {
+            Map<Character, int[]> porSimbolo = new HashMap<>();
+            Map<Character, Set<String>> trans = afnd.getTransiciones().get(compilado.getNombre(q));
+            if (trans != null) {
+                for (Map.Entry<Character, Set<String>> t : trans.entrySet()) {
+                    if (t.getKey() == null) {
+                        continue;
+                    }
+                    int[] destinos = new int[t.getValue().size()];
+                    int i = 0;
+                    for (String d : t.getValue()) {
+                        destinos[i++] = indices.get(d);
+                    }
+                    porSimbolo.put(t.getKey(), destinos);
+                }
+            }
+            directas.add(porSimbolo);
+        }
+
+        // δ' y finales sobre la ε-clausura; solo desde los estados alcanzables
+        List<Map<Character, Set<Integer>>> nuevas = new ArrayList<>();
+        boolean[] finales = new boolean[n];
+        boolean[] alcanzable = new boolean[n];
+        for (int q = 0; q < n; q++) {
+            nuevas.add(null);
+        }
+        List<Integer> orden = new ArrayList<>();
+        alcanzable[inicial] = true;
+        orden.add(inicial);
+        for (int i = 0; i < orden.size(); i++) {
+            int q = orden.get(i);
+            Map<Character, Set<Integer>> trans = new HashMap<>();
+            long[] clausura = compilado.getClausura(q);
+            for (int w = 0; w < clausura.length; w++) {
+                long palabra = clausura[w];
+                while (palabra != 0) {
+                    int p = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                    palabra &= palabra - 1;
+                    if (compilado.esFinal(p)) {
+                        finales[q] = true;
+                    }
+                    for (Map.Entry<Character, int[]> t : directas.get(p).entrySet()) {
+                        Set<Integer> destinos = trans.computeIfAbsent(t.getKey(), k -> new HashSet<>());
+                        for (int d : t.getValue()) {
+                            destinos.add(d);
+                            if (!alcanzable[d]) {
+                                alcanzable[d] = true;
+                                orden.add(d);
+                            }
+                        }
+                    }
+                }
+            }
+            nuevas.set(q, trans);
+        }
+
+        // Co-alcanzables: BFS hacia atrás desde los finales sobre los predecesores
+        List<List<Integer>> predecesores = new ArrayList<>();
+        for (int q = 0; q < n; q++) {
+            predecesores.add(new ArrayList<>());
+        }
+        List<Integer> cola = new ArrayList<>();
+        boolean[] util = new boolean[n];
+        for (int q : orden) {
+            for (Set<Integer> destinos : nuevas.get(q).values()) {
+                for (int d : destinos) {
+                    predecesores.get(d).add(q);
+                }
+            }
+            if (finales[q]) {
+                util[q] = true;
+                cola.add(q);
+            }
+        }
+        for (int i = 0; i < cola.size(); i++) {
+            for (int p : predecesores.get(cola.get(i))) {
+                if (!util[p]) {
+                    util[p] = true;
+                    cola.add(p);
+                }
+            }
+        }
+
+        Set<String> estados = new HashSet<>();
+        Set<String> estadosFinales = new HashSet<>();
+        Map<String, Map<Character, Set<String>>> transiciones = new HashMap<>();
+        for (int q : orden) {
+            if (!util[q] && q != inicial) {
+                continue;
+            }
+            String nombre = compilado.getNombre(q);
+            estados.add(nombre);
+            if (finales[q]) {
+                estadosFinales.add(nombre);
+            }
+            Map<Character, Set<String>> trans = new HashMap<>();
+            for (Map.Entry<Character, Set<Integer>> t : nuevas.get(q).entrySet()) {
+                Set<String> destinos = new HashSet<>();
+                for (int d : t.getValue()) {
+                    if (util[d]) {
+                        destinos.add(compilado.getNombre(d));
+                    }
+                }
+                if (!destinos.isEmpty()) {
+                    trans.put(t.getKey(), destinos);
+                }
+            }
+            transiciones.put(nombre, trans);
+        }
+        return new AFND(estados, alfabeto, transiciones, afnd.getEstadoInicial(), estadosFinales);
+    }
+}
@@ -0,0 +1,477 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.core.AP;
+import automatas.core.Automata;
+import automatas.core.ConjuntoEstados;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Equivalencia de lenguajes sin construir AFDs completos.
+ *
+ * Dos AFD se comparan con el algoritmo de Hopcroft–Karp: se recorren en BFS
+ * los pares de estados alcanzados por la misma palabra, uniendo sus clases en
+ * un union-find; un par cuyas clases ya coinciden no se vuelve a explorar.
+ * Si hay algún AFND se usa HKC (bisimulación hasta congruencia): los pares
+ * son conjuntos de estados de la unión disjunta de ambos autómatas y un par
+ * se descarta si sus conjuntos ya están en la misma clase del union-find o
+ * en la clausura por congruencia de los pares procesados y pendientes
+ * (u ⊆ X con (u, v) en la relación permite agregar v a X).
+ * En ambos casos el primer par que difiere en aceptación da el contraejemplo.
+ */
+public final class Equivalencia {
+
+    /**
+     * Resultado de una comparación. Si no se cumple, {@code contraejemplo}
+     * es una palabra que la distingue ("" es la cadena vacía); si se cumple
+     * es null.
+     */
+    public record Veredicto(boolean cumple, String contraejemplo) {
+
+        static Veredicto valido() {
+            return new Veredicto(true, null);
+        }
+
+        static Veredicto refutado(String contraejemplo) {
+            return new Veredicto(false, contraejemplo);
+        }
+    }
+
+    private Equivalencia() {
+    }
+
+    public static Veredicto equivalentes(Automata a, Automata b) {
+        if (a instanceof AP || b instanceof AP) {
+            throw new IllegalArgumentException("La equivalencia de autómatas de pila no es decidible");
+        }
+        if (a instanceof AFD afdA && b instanceof AFD afdB) {
+            return hopcroftKarp(afdA, afdB);
+        }
+        return hkc(comoAFND(a), comoAFND(b));
+    }
+
+    // ===== Hopcroft–Karp para AFD =====
+
+    private static Veredicto hopcroftKarp(AFD a, AFD b) {
+        // Estados de A, luego los de B y al final un sumidero común
+        Map<String, Integer> indicesA = numerar(a);
+        Map<String, Integer> indicesB = numerar(b);
+        final int na = indicesA.size();
+        final int total = na + indicesB.size() + 1;
+        final int sumidero = total - 1;
+        char[] simbolos = alfabetoComun(a, b);
+        final int k = simbolos.length;
+
+        int[] delta = new int[total * k];
+        boolean[] finales = new boolean[total];
+        Arrays.fill(delta, sumidero);
+        llenar(a, indicesA, 0, simbolos, delta, finales);
+        llenar(b, indicesB, na, simbolos, delta, finales);
+
+        int[] padre = new int[total];
+        for (int q = 0; q < total; q++) {
+            padre[q] = q;
+        }
+
+        // Pares en orden BFS; cada uno recuerda de qué par y con qué símbolo vino
+        List<int[]> pares = new ArrayList<>();
+        pares.add(new int[]{indicesA.get(a.getEstadoInicial()), na + indicesB.get(b.getEstadoInicial()), -1, -1});
+        unir(padre, pares.get(0)[0], pares.get(0)[1]);
+        for (int i = 0; i < pares.size(); i++) {
+            int[] par = pares.get(i);
+            if (finales[par[0]] != finales[par[1]]) {
+                return Veredicto.refutado(palabra(pares, i, simbolos));
+            }
+            for (int col = 0; col < k; col++) {
+                int p = delta[par[0] * k + col];
+                int q = delta[par[1] * k + col];
+                if (unir(padre, p, q)) {
+                    pares.add(new int[]{p, q, i, col});
+                }
+            }
+        }
+        return Veredicto.valido();
+    }
+
+    private static Map<String, Integer> numerar(AFD afd) {
+        Map<String, Integer> indices = new HashMap<>();
+        indices.put(afd.getEstadoInicial(), 0);
+        for (String estado : afd.getEstados()) {
+            indices.putIfAbsent(estado, indices.size());
+        }
+        for (Map.Entry<String, Map<Character, String>> entry : afd.getTransiciones().entrySet()) {
+            indices.putIfAbsent(entry.getKey(), indices.size());
+            for (String destino : entry.getValue().values()) {
+                indices.putIfAbsent(destino, indices.size());
+            }
+        }
+        return indices;
+    }
+
+    private static void llenar(AFD afd, Map<String, Integer> indices, int desplazamiento,
+                               char[] simbolos, int[] delta, boolean[] finales) {
+        final int k = simbolos.length;
+        for (Map.Entry<String, Integer> e : indices.entrySet()) {
+            int q = desplazamiento + e.getValue();
+            finales[q] = afd.getEstadosFinales().contains(e.getKey());
+            Map<Character, String> trans = afd.getTransiciones().get(e.getKey());
+            if (trans == null) {
+                continue;
+            }
+            for (int col = 0; col < k; col++) {
+                String destino = trans.get(simbolos[col]);
+                if (destino != null) {
+                    delta[q * k + col] = desplazamiento + indices.get(destino);
+                }
+            }
+        }
+    }
+
+    /**
+     * Une las clases de p y q; false si ya eran la misma.
+     */
+    private static boolean unir(int[] padre, int p, int q) {
+        int rp = buscar(padre, p);
+        int rq = buscar(padre, q);
+        if (rp == rq) {
+            return false;
+        }
+        padre[rp] = rq;
+        return true;
+    }
+
+    private static int buscar(int[] padre, int q) {
+        while (padre[q] != q) {
+            padre[q] = padre[padre[q]];
+            q = padre[q];
+        }
+        return q;
+    }
+
+    private static String palabra(List<int[]> pares, int i, char[] simbolos) {
+        StringBuilder sb = new StringBuilder();
+        while (pares.get(i)[2] >= 0) {
+            sb.append(simbolos[pares.get(i)[3]]);
+            i = pares.get(i)[2];
+        }
+        return sb.reverse().toString();
+    }
+
+    // ===== HKC para AFND =====
+
+    private static Veredicto hkc(AFND a, AFND b) {
+        AFNDCompilado union = unionDisjunta(a, b).compilar();
+        final int k = union.getNumSimbolos();
+
+        long[] inicioA = union.nuevoConjunto();
+        long[] inicioB = union.nuevoConjunto();
+        agregarClausura(union, "a" + a.getEstadoInicial(), inicioA);
+        agregarClausura(union, "b" + b.getEstadoInicial(), inicioB);
+
+        // Conjuntos internados como enteros para el union-find sobre R
+        Map<ConjuntoEstados, Integer> indice = new HashMap<>();
+        int[] padre = new int[64];
+
+        // Todos los pares en orden BFS; el par i es también la regla i de la congruencia
+        List<long[][]> pares = new ArrayList<>();
+        List<int[]> origen = new ArrayList<>();
+        Congruencia congruencia = new Congruencia(union.getNumEstados());
+        pares.add(new long[][]{inicioA, inicioB});
+        origen.add(new int[]{-1, -1});
+        congruencia.agregar(inicioA, inicioB);
+        for (int i = 0; i < pares.size(); i++) {
+            long[] x = pares.get(i)[0];
+            long[] y = pares.get(i)[1];
+            padre = internar(indice, padre, x);
+            padre = internar(indice, padre, y);
+            int ix = indice.get(new ConjuntoEstados(x));
+            int iy = indice.get(new ConjuntoEstados(y));
+            if (buscar(padre, ix) == buscar(padre, iy) || congruencia.contiene(x, y, i)) {
+                // Se deduce de los demás pares: deja de ser regla para no justificar a otros en círculo
+                congruencia.desactivar(i);
+                continue;
+            }
+            if (union.contieneFinal(x) != union.contieneFinal(y)) {
+                StringBuilder sb = new StringBuilder();
+                for (int j = i; origen.get(j)[0] >= 0; j = origen.get(j)[0]) {
+                    sb.append(union.getSimbolo(origen.get(j)[1]));
+                }
+                return Veredicto.refutado(sb.reverse().toString());
+            }
+            unir(padre, ix, iy);
+            for (int col = 0; col < k; col++) {
+                long[] x2 = union.nuevoConjunto();
+                long[] y2 = union.nuevoConjunto();
+                union.moverPorColumna(x, col, x2);
+                union.moverPorColumna(y, col, y2);
+                pares.add(new long[][]{x2, y2});
+                origen.add(new int[]{i, col});
+                congruencia.agregar(x2, y2);
+            }
+        }
+        return Veredicto.valido();
+    }
+
+    /**
+     * Da un índice al conjunto si no lo tenía; devuelve el arreglo de padres,
+     * agrandado si hizo falta.
+     */
+    private static int[] internar(Map<ConjuntoEstados, Integer> indice, int[] padre, long[] conjunto) {
+        ConjuntoEstados clave = new ConjuntoEstados(conjunto);
+        if (indice.containsKey(clave)) {
+            return padre;
+        }
+        int nuevo = indice.size();
+        indice.put(clave, nuevo);
+        if (nuevo == padre.length) {
+            padre = Arrays.copyOf(padre, padre.length * 2);
+        }
+        padre[nuevo] = nuevo;
+        return padre;
+    }
+
+    /**
+     * Clausura por congruencia de R ∪ todo (los pares ya procesados más los
+     * pendientes). Cada par (u, v) da dos reglas de reescritura, u ⊆ X ⇒
+     * X ∪ v y v ⊆ X ⇒ X ∪ u. La forma normal de X es el menor conjunto que
+     * lo contiene y está cerrado por las reglas; (X, Y) está en la clausura
+     * si ambas formas normales coinciden.
+     *
+     * Cada regla se indexa por los estados de su premisa y lleva la cuenta de
+     * los que faltan, así que normalizar solo visita las reglas que tocan al
+     * conjunto y dispara cada una a lo sumo una vez, en lugar de recorrer
+     * toda la relación hasta un punto fijo.
+     */
+    private static final class Congruencia {
+
+        // Par i: reglas 2i (premisa u) y 2i + 1 (premisa v)
+        private final List<long[][]> reglas = new ArrayList<>();
+        private boolean[] activas = new boolean[64];
+        private int[] tamanoPremisa = new int[128];
+
+        // Reglas cuya premisa contiene al estado q: porEstado[q][0 .. numPorEstado[q])
+        private final int[][] porEstado;
+        private final int[] numPorEstado;
+        // Reglas de premisa vacía: valen para cualquier conjunto
+        private int[] vacias = new int[8];
+        private int numVacias;
+
+        // Cuenta de estados faltantes por regla, válida si marca == generacion
+        private int[] faltan = new int[128];
+        private int[] marca = new int[128];
+        private int generacion;
+        private final int[] cola;
+
+        Congruencia(int numEstados) {
+            porEstado = new int[numEstados][];
+            numPorEstado = new int[numEstados];
+            cola = new int[numEstados];
+        }
+
+        void agregar(long[] u, long[] v) {
+            int par = reglas.size();
+            reglas.add(new long[][]{u, v});
+            if (par == activas.length) {
+                activas = Arrays.copyOf(activas, par * 2);
+                tamanoPremisa = Arrays.copyOf(tamanoPremisa, par * 4);
+                faltan = Arrays.copyOf(faltan, par * 4);
+                marca = Arrays.copyOf(marca, par * 4);
+            }
+            activas[par] = true;
+            indexar(2 * par, u);
+            indexar(2 * par + 1, v);
+        }
+
+        void desactivar(int par) {
+            activas[par] = false;
+        }
+
+        /**
+         * Indica si (x, y) está en la clausura de las reglas activas salvo
+         * las del par {@code excluido} (el que se está procesando).
+         */
+        boolean contiene(long[] x, long[] y, int excluido) {
+            return Arrays.equals(normalizar(x, excluido), normalizar(y, excluido));
+        }
+
+        private void indexar(int regla, long[] premisa) {
+            int tamano = 0;
+            for (int w = 0; w < premisa.length; w++) {
+                long palabra = premisa[w];
+                while (palabra != 0) {
+                    int q = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                    palabra &= palabra - 1;
+                    if (porEstado[q] == null) {
+                        porEstado[q] = new int[4];
+                    } else if (numPorEstado[q] == porEstado[q].length) {
+                        porEstado[q] = Arrays.copyOf(porEstado[q], numPorEstado[q] * 2);
+                    }
+                    porEstado[q][numPorEstado[q]++] = regla;
+                    tamano++;
+                }
+            }
+            tamanoPremisa[regla] = tamano;
+            if (tamano == 0) {
+                if (numVacias == vacias.length) {
+                    vacias = Arrays.copyOf(vacias, numVacias * 2);
+                }
+                vacias[numVacias++] = regla;
+            }
+        }
+
+        private long[] normalizar(long[] x, int excluido) {
+            long[] resultado = x.clone();
+            generacion++;
+            int fin = 0;
+            for (int w = 0; w < x.length; w++) {
+                long palabra = x[w];
+                while (palabra != 0) {
+                    cola[fin++] = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                    palabra &= palabra - 1;
+                }
+            }
+            for (int i = 0; i < numVacias; i++) {
+                fin = disparar(vacias[i], excluido, resultado, fin);
+            }
+            // Cada estado que entra descuenta de las reglas que lo tienen en la premisa
+            for (int i = 0; i < fin; i++) {
+                int q = cola[i];
+                for (int j = 0; j < numPorEstado[q]; j++) {
+                    int regla = porEstado[q][j];
+                    if (marca[regla] != generacion) {
+                        marca[regla] = generacion;
+                        faltan[regla] = tamanoPremisa[regla];
+                    }
+                    if (--faltan[regla] == 0) {
+                        fin = disparar(regla, excluido, resultado, fin);
+                    }
+                }
+            }
+            return resultado;
+        }
+
+        /**
+         * Agrega la conclusión de la regla al conjunto y encola los estados
+         * nuevos; devuelve el nuevo largo de la cola.
+         */
+        private int disparar(int regla, int excluido, long[] conjunto, int fin) {
+            int par = regla >> 1;
+            if (!activas[par] || par == excluido) {
+                return fin;
+            }
+            long[] conclusion = reglas.get(par)[(regla & 1) == 0 ? 1 : 0];
+            for (int w = 0; w < conjunto.length; w++) {
+                long nuevos = conclusion[w] & ~conjunto[w];
+                conjunto[w] |= nuevos;
+                while (nuevos != 0) {
+                    cola[fin++] = (w << 6) + Long.numberOfTrailingZeros(nuevos);
+                    nuevos &= nuevos - 1;
+                }
+            }
+            return fin;
+        }
+    }
+
+    private static void agregarClausura(AFNDCompilado afnd, String nombre, long[] conjunto) {
+        for (int q = 0; q < afnd.getNumEstados(); q++) {
+            if (afnd.getNombre(q).equals(nombre)) {
+                long[] clausura = afnd.getClausura(q);
+                for (int w = 0; w < conjunto.length; w++) {
+                    conjunto[w] |= clausura[w];
+                }
+                return;
+            }
+        }
+    }
+
+    // ===== Auxiliares =====
+
+    /**
+     * Unión disjunta de dos AFND: los estados de A llevan el prefijo "a" y
+     * los de B el prefijo "b". El inicial es el de A (no se usa).
+     */
+    static AFND unionDisjunta(AFND a, AFND b) {
+        Set<String> estados = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Set<Character> alfabeto = new HashSet<>(a.getAlfabeto());
+        alfabeto.addAll(b.getAlfabeto());
+        Map<String, Map<Character, Set<String>>> transiciones = new HashMap<>();
+        copiarConPrefijo(a, "a", estados, finales, transiciones);
+        copiarConPrefijo(b, "b", estados, finales, transiciones);
+        return new AFND(estados, alfabeto, transiciones, "a" + a.getEstadoInicial(), finales);
+    }
+
+    private static void copiarConPrefijo(AFND afnd, String prefijo, Set<String> estados, Set<String> finales,
+                                         Map<String, Map<Character, Set<String>>> transiciones) {
+        estados.add(prefijo + afnd.getEstadoInicial());
+        for (String estado : afnd.getEstados()) {
+            estados.add(prefijo + estado);
+        }
+        for (String f : afnd.getEstadosFinales()) {
+            finales.add(prefijo + f);
+        }
+        for (Map.Entry<String, Map<Character, Set<String>>> entry : afnd.getTransiciones().entrySet()) {
+            Map<Character, Set<String>> trans = new HashMap<>();
+            for (Map.Entry<Character, Set<String>> t : entry.getValue().entrySet()) {
+                Set<String> destinos = new HashSet<>();
+                for (String d : t.getValue()) {
+                    destinos.add(prefijo + d);
+                    estados.add(prefijo + d);
+                }
+                trans.put(t.getKey(), destinos);
+            }
+            transiciones.put(prefijo + entry.getKey(), trans);
+        }
+    }
+
+    /**
+     * Un AFD como AFND con destinos de un solo elemento.
+     */
+    static AFND comoAFND(Automata automata) {
+        if (automata instanceof AFND afnd) {
+            return afnd;
+        }
+        if (!(automata instanceof AFD afd)) {
+            throw new IllegalArgumentException("Tipo de autómata no soportado: " + automata.getClass().getSimpleName());
+        }
+        Map<String, Map<Character, Set<String>>> transiciones = new HashMap<>();
+        for (Map.Entry<String, Map<Character, String>> entry : afd.getTransiciones().entrySet()) {
+            Map<Character, Set<String>> trans = new HashMap<>();
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                trans.put(t.getKey(), new HashSet<>(Set.of(t.getValue())));
+            }
+            transiciones.put(entry.getKey(), trans);
+        }
+        return new AFND(afd.getEstados(), afd.getAlfabeto(), transiciones,
+                afd.getEstadoInicial(), afd.getEstadosFinales());
+    }
+
+    private static char[] alfabetoComun(Automata a, Automata b) {
+        Set<Character> alfabeto = new TreeSet<>();
+        for (Character c : a.getAlfabeto()) {
+            if (c != null) {
+                alfabeto.add(c);
+            }
+        }
+        for (Character c : b.getAlfabeto()) {
+            if (c != null) {
+                alfabeto.add(c);
+            }
+        }
+        char[] simbolos = new char[alfabeto.size()];
+        int i = 0;
+        for (char c : alfabeto) {
+            simbolos[i++] = c;
+        }
+        return simbolos;
+    }
+}
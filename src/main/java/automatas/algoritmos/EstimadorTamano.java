@@ -0,0 +1,285 @@
+package automatas.algoritmos;
+
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.core.ConjuntoEstados;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimación barata del tamaño del AFD que daría la construcción por
+ * subconjuntos, para elegir el motor antes de determinizar.
+ *
+ * Se recorre por capas (BFS) una muestra de a lo sumo {@link #MUESTRA}
+ * estados del AFD. Si la BFS termina dentro de la muestra el tamaño es
+ * exacto. Si no, se suman las capas completas, se mide su crecimiento y se
+ * proyecta hasta la profundidad de anticipación d del AFND: el máximo de
+ * símbolos en un camino del grafo de componentes fuertemente conexas. La
+ * última capa que crece es la d - 1 (en Σ*aΣ^k, d = k + 2 y el AFD tiene
+ * 2^(k+1) + 1 estados en las capas 0..k+1). La cota 2^n es el techo. Una expresión regular se estima sobre su AFND (el de Glushkov es el
+ * más chico de construir).
+ */
+public class EstimadorTamano {
+
+    /** Estados del AFD explorados como máximo. */
+    public static final int MUESTRA = 4096;
+
+    /** Hasta este tamaño conviene materializar el AFD. */
+    public static final long UMBRAL_AFD = 100_000;
+
+    /** Hasta este tamaño el AFD perezoso reutiliza bien su caché. */
+    public static final long UMBRAL_PEREZOSO = 10_000_000;
+
+    public enum Confianza {
+        /** La BFS terminó: es el número exacto de estados. */
+        EXACTA,
+        /** Crecimiento estable en las últimas capas. */
+        MEDIA,
+        /** Crecimiento irregular o pocas capas para medirlo. */
+        BAJA
+    }
+
+    public enum Motor {
+        /** Materializar el AFD con {@link Conversion}. */
+        AFD,
+        /** Determinizar a demanda (lo que hace {@code AFND.acepta}). */
+        AFD_PEREZOSO,
+        /** Simular el AFND por bits sin caché de estados. */
+        AFND
+    }
+
+    public record Estimacion(long estados, Confianza confianza, Motor motor) {}
+
+    private final AFNDCompilado afnd;
+
+    public EstimadorTamano(AFND afnd) {
+        this.afnd = afnd.compilar();
+    }
+
+    public Estimacion estimar() {
+        final int numSimbolos = afnd.getNumSimbolos();
+        Set<ConjuntoEstados> vistos = new HashSet<>();
+        List<ConjuntoEstados> capa = new ArrayList<>();
+        List<Integer> tamanosCapas = new ArrayList<>();
+
+        long[] inicial = afnd.nuevoConjunto();
+        afnd.copiarInicial(inicial);
+        ConjuntoEstados c0 = new ConjuntoEstados(inicial);
+        vistos.add(c0);
+        capa.add(c0);
+        tamanosCapas.add(1);
+
+        long[] destino = afnd.nuevoConjunto();
+        boolean completa = true;
+        while (!capa.isEmpty()) {
+            List<ConjuntoEstados> siguiente = new ArrayList<>();
+            for (ConjuntoEstados conjunto : capa) {
+                for (int col = 0; col < numSimbolos; col++) {
+                    if (!afnd.moverPorColumna(conjunto.getBits(), col, destino)) {
+                        continue;
+                    }
+                    ConjuntoEstados nuevo = new ConjuntoEstados(destino.clone());
+                    if (vistos.add(nuevo)) {
+                        siguiente.add(nuevo);
+                    }
+                }
+                if (vistos.size() > MUESTRA) {
+                    completa = false;
+                    break;
+                }
+            }
+            if (!completa) {
+                break;
+            }
+            if (!siguiente.isEmpty()) {
+                tamanosCapas.add(siguiente.size());
+            }
+            capa = siguiente;
+        }
+
+        if (completa) {
+            return new Estimacion(vistos.size(), Confianza.EXACTA, motorPara(vistos.size()));
+        }
+        return proyectar(vistos.size(), tamanosCapas);
+    }
+
+    /**
+     * Proyecta el crecimiento de las últimas capas completas hasta la
+     * profundidad de anticipación, sin pasar de 2^n.
+     */
+    private Estimacion proyectar(long explorados, List<Integer> capas) {
+        final int n = afnd.getNumEstados();
+        double techo = n >= 62 ? Long.MAX_VALUE : (double) (1L << n);
+
+        // Razón de crecimiento media (geométrica) de hasta 3 capas
+        int medidas = Math.min(3, capas.size() - 1);
+        double crecimiento = 1.0;
+        double minima = Double.MAX_VALUE;
+        double maxima = 0;
+        if (medidas > 0) {
+            double producto = 1.0;
+            for (int i = capas.size() - medidas; i < capas.size(); i++) {
+                double razon = (double) capas.get(i) / capas.get(i - 1);
+                producto *= razon;
+                minima = Math.min(minima, razon);
+                maxima = Math.max(maxima, razon);
+            }
+            crecimiento = Math.pow(producto, 1.0 / medidas);
+        }
+
+        // Se parte de las capas completas (la parcial se descarta) y se
+        // proyectan las que faltan: la capa de índice profundidad() - 1 es la
+        // última que crece
+        int restantes = Math.max(0, profundidad() - capas.size() - 1);
+        double estimado = 0;
+        for (int tamano : capas) {
+            estimado += tamano;
+        }
+        double ultima = capas.get(capas.size() - 1);
+        for (int i = 0; i < restantes && estimado < techo; i++) {
+            ultima *= Math.max(1.0, crecimiento);
+            estimado += ultima;
+        }
+        long estados = (long) Math.max(explorados, Math.min(estimado, techo));
+
+        boolean estable = medidas >= 2 && maxima - minima <= 0.25 * crecimiento;
+        return new Estimacion(estados, estable ? Confianza.MEDIA : Confianza.BAJA, motorPara(estados));
+    }
+
+    /**
+     * Máximo de símbolos en un camino del grafo de componentes fuertemente
+     * conexas del AFND (arcos ε de peso 0, con símbolo de peso 1). Una
+     * componente con algún arco con símbolo adentro suma 1.
+     */
+    int profundidad() {
+        final int n = afnd.getNumEstados();
+        final int numSimbolos = afnd.getNumSimbolos();
+
+        // Arcos en formato CSR; peso 1 si consumen un símbolo
+        List<int[]> arcos = new ArrayList<>();
+        int[] inicioArcos = new int[n + 1];
+        for (int q = 0; q < n; q++) {
+            inicioArcos[q] = arcos.size();
+            agregarArcos(q, afnd.getClausura(q), 0, arcos);
+            for (int col = 0; col < numSimbolos; col++) {
+                long[] mascara = afnd.getMascara(col, q);
+                if (mascara != null) {
+                    agregarArcos(q, mascara, 1, arcos);
+                }
+            }
+        }
+        inicioArcos[n] = arcos.size();
+
+        // Tarjan iterativo: las componentes salen en orden topológico inverso
+        int[] indice = new int[n];
+        int[] bajo = new int[n];
+        int[] componente = new int[n];
+        boolean[] enPila = new boolean[n];
+        Arrays.fill(indice, -1);
+        int[] pila = new int[n];
+        int tope = 0;
+        int[] llamadas = new int[n];
+        int[] siguienteArco = new int[n];
+        int numComponentes = 0;
+        int contador = 0;
+        for (int raiz = 0; raiz < n; raiz++) {
+            if (indice[raiz] >= 0) {
+                continue;
+            }
+            int profundidadLlamadas = 0;
+            llamadas[profundidadLlamadas++] = raiz;
+            indice[raiz] = bajo[raiz] = contador++;
+            siguienteArco[raiz] = inicioArcos[raiz];
+            pila[tope++] = raiz;
+            enPila[raiz] = true;
+            while (profundidadLlamadas > 0) {
+                int v = llamadas[profundidadLlamadas - 1];
+                if (siguienteArco[v] < inicioArcos[v + 1]) {
+                    int w = arcos.get(siguienteArco[v]++)[0];
+                    if (indice[w] < 0) {
+                        indice[w] = bajo[w] = contador++;
+                        siguienteArco[w] = inicioArcos[w];
+                        pila[tope++] = w;
+                        enPila[w] = true;
+                        llamadas[profundidadLlamadas++] = w;
+                    } else if (enPila[w]) {
+                        bajo[v] = Math.min(bajo[v], indice[w]);
+                    }
+                    continue;
+                }
+                if (bajo[v] == indice[v]) {
+                    int w;
+                    do {
+                        w = pila[--tope];
+                        enPila[w] = false;
+                        componente[w] = numComponentes;
+                    } while (w != v);
+                    numComponentes++;
+                }
+                profundidadLlamadas--;
+                if (profundidadLlamadas > 0) {
+                    int padre = llamadas[profundidadLlamadas - 1];
+                    bajo[padre] = Math.min(bajo[padre], bajo[v]);
+                }
+            }
+        }
+
+        // Camino más largo: de las componentes sumidero hacia las de origen
+        boolean[] ciclica = new boolean[numComponentes];
+        for (int q = 0; q < n; q++) {
+            for (int i = inicioArcos[q]; i < inicioArcos[q + 1]; i++) {
+                int[] arco = arcos.get(i);
+                if (arco[1] == 1 && componente[arco[0]] == componente[q]) {
+                    ciclica[componente[q]] = true;
+                }
+            }
+        }
+        List<List<Integer>> miembros = new ArrayList<>();
+        for (int c = 0; c < numComponentes; c++) {
+            miembros.add(new ArrayList<>());
+        }
+        for (int q = 0; q < n; q++) {
+            miembros.get(componente[q]).add(q);
+        }
+        int[] largo = new int[numComponentes];
+        int maximo = 0;
+        for (int c = 0; c < numComponentes; c++) {
+            int mejor = 0;
+            for (int q : miembros.get(c)) {
+                for (int i = inicioArcos[q]; i < inicioArcos[q + 1]; i++) {
+                    int[] arco = arcos.get(i);
+                    int d = componente[arco[0]];
+                    if (d != c) {
+                        mejor = Math.max(mejor, largo[d] + arco[1]);
+                    }
+                }
+            }
+            largo[c] = mejor + (ciclica[c] ? 1 : 0);
+            maximo = Math.max(maximo, largo[c]);
+        }
+        return maximo;
+    }
+
+    private static void agregarArcos(int origen, long[] destinos, int peso, List<int[]> arcos) {
+        for (int w = 0; w < destinos.length; w++) {
+            long palabra = destinos[w];
+            while (palabra != 0) {
+                int p = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                palabra &= palabra - 1;
+                if (p != origen || peso == 1) {
+                    arcos.add(new int[]{p, peso});
+                }
+            }
+        }
+    }
+
+    private static Motor motorPara(long estados) {
+        if (estados <= UMBRAL_AFD) {
+            return Motor.AFD;
+        }
+        return estados <= UMBRAL_PEREZOSO ? Motor.AFD_PEREZOSO : Motor.AFND;
+    }
+}
@@ -0,0 +1,57 @@
+package automatas.algoritmos;
+
+/**
+ * La construcción por subconjuntos superó el presupuesto de
+ * {@link Determinizador.Limites}. Se lanza antes de agotar la memoria; los
+ * números indican hasta dónde se llegó.
+ */
+public class ExplosionEstadosException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int estados;
+    private final long transiciones;
+    private final long bytesEstimados;
+    private final Determinizador.Limites limites;
+
+    public ExplosionEstadosException(int estados, long transiciones, long bytesEstimados,
+                                     Determinizador.Limites limites) {
+        super(mensaje(estados, transiciones, bytesEstimados, limites));
+        this.estados = estados;
+        this.transiciones = transiciones;
+        this.bytesEstimados = bytesEstimados;
+        this.limites = limites;
+    }
+
+    private static String mensaje(int estados, long transiciones, long bytesEstimados,
+                                  Determinizador.Limites limites) {
+        String memoria = bytesEstimados > 0 ? String.format(", ~%.1f MB", bytesEstimados / 1e6) : "";
+        return String.format("La determinización superó el presupuesto: %d estados, %d transiciones%s "
+                        + "(límites: %d estados, %d transiciones, %.1f MB)",
+                estados, transiciones, memoria,
+                limites.estados(), limites.transiciones(), limites.bytes() / 1e6);
+    }
+
+    /**
+     * Estados del AFD creados al momento de abortar.
+     */
+    public int getEstados() {
+        return estados;
+    }
+
+    public long getTransiciones() {
+        return transiciones;
+    }
+
+    /**
+     * Memoria estimada de la construcción al momento de abortar (0 si el
+     * algoritmo no la estima).
+     */
+    public long getBytesEstimados() {
+        return bytesEstimados;
+    }
+
+    public Determinizador.Limites getLimites() {
+        return limites;
+    }
+}
@@ -0,0 +1,203 @@
+package automatas.algoritmos;
+
+import automatas.core.AFNDCompilado;
+import automatas.core.AP;
+import automatas.core.Automata;
+import automatas.core.ConjuntoEstados;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inclusión de lenguajes L(A) ⊆ L(B) con antichains, sin determinizar B.
+ *
+ * Se exploran en BFS pares (p, S): p es un estado de A y S el conjunto de
+ * estados de B alcanzados por la misma palabra. El par es un contraejemplo
+ * si p es final y S no tiene finales. Un par (p, S) se descarta si ya se
+ * visitó algún (p, S') con S' ⊆ S: todo lo que rechaza S también lo rechaza
+ * S'. Por cada estado de A se guarda solo la antichain de conjuntos
+ * minimales; al entrar uno menor se dan de baja los que lo contienen.
+ * Los estados intermedios de Thompson (solo con arcos ε) se omiten en ambos
+ * lados: no aceptan ni consumen símbolos, y sin ellos hay menos pares y más
+ * conjuntos comparables.
+ */
+public final class Inclusion {
+
+    private final AFNDCompilado a;
+    private final AFNDCompilado b;
+
+    // Estados de B con transiciones o finales; los demás (intermedios ε)
+    // no cambian lo que acepta un conjunto y solo estorban al comparar
+    private final long[] utilesB;
+
+    // Nodos de la BFS: estado de A, conjunto de B y de dónde vinieron
+    private final List<long[]> conjuntos = new ArrayList<>();
+    private int[] estados = new int[64];
+    private int[] padres = new int[64];
+    private char[] simbolos = new char[64];
+    private boolean[] vigentes = new boolean[64];
+
+    // Antichain por estado de A: índices de nodos con conjuntos minimales
+    private final List<List<Integer>> antichains = new ArrayList<>();
+
+    // Conjuntos ya agregados por estado de A, para descartar repetidos sin recorrer la antichain
+    private final List<Set<ConjuntoEstados>> vistos = new ArrayList<>();
+
+    private Inclusion(Automata a, Automata b) {
+        this.a = Equivalencia.comoAFND(a).compilar();
+        this.b = Equivalencia.comoAFND(b).compilar();
+        for (int p = 0; p < this.a.getNumEstados(); p++) {
+            antichains.add(new ArrayList<>());
+            vistos.add(new HashSet<>());
+        }
+        utilesB = this.b.nuevoConjunto();
+        for (int q = 0; q < this.b.getNumEstados(); q++) {
+            if (util(this.b, q)) {
+                utilesB[q >> 6] |= 1L << q;
+            }
+        }
+    }
+
+    private static boolean util(AFNDCompilado afnd, int q) {
+        return afnd.esFinal(q) || afnd.getColumnasSalida(q).length > 0;
+    }
+
+    /**
+     * Indica si L(a) ⊆ L(b). Si no, el contraejemplo es una palabra
+     * aceptada por {@code a} y rechazada por {@code b}.
+     */
+    public static Equivalencia.Veredicto incluido(Automata a, Automata b) {
+        if (a instanceof AP || b instanceof AP) {
+            throw new IllegalArgumentException("La inclusión de autómatas de pila no es decidible");
+        }
+        return new Inclusion(a, b).verificar();
+    }
+
+    private Equivalencia.Veredicto verificar() {
+        final int numSimbolos = a.getNumSimbolos();
+
+        // Columna de B para cada columna de A (-1 si B no tiene el símbolo)
+        int[] columnasB = new int[numSimbolos];
+        for (int col = 0; col < numSimbolos; col++) {
+            columnasB[col] = b.columna(a.getSimbolo(col));
+        }
+
+        long[] inicialA = a.nuevoConjunto();
+        long[] inicialB = b.nuevoConjunto();
+        a.copiarInicial(inicialA);
+        b.copiarInicial(inicialB);
+        filtrar(inicialB);
+        for (int p : miembros(inicialA)) {
+            if (agregar(p, inicialB, -1, '\0')) {
+                return Equivalencia.Veredicto.refutado("");
+            }
+        }
+
+        for (int actual = 0; actual < conjuntos.size(); actual++) {
+            if (!vigentes[actual]) {
+                continue;
+            }
+            int p = estados[actual];
+            long[] s = conjuntos.get(actual);
+            for (int col : a.getColumnasSalida(p)) {
+                long[] destinoB = b.nuevoConjunto();
+                if (columnasB[col] >= 0) {
+                    b.moverPorColumna(s, columnasB[col], destinoB);
+                    filtrar(destinoB);
+                }
+                for (int q : miembros(a.getMascara(col, p))) {
+                    if (agregar(q, destinoB, actual, a.getSimbolo(col))) {
+                        return Equivalencia.Veredicto.refutado(palabra(conjuntos.size() - 1));
+                    }
+                }
+            }
+        }
+        return Equivalencia.Veredicto.valido();
+    }
+
+    /**
+     * Agrega el nodo (p, s) salvo que esté subsumido. Devuelve true si el
+     * nodo agregado es un contraejemplo.
+     */
+    private boolean agregar(int p, long[] s, int padre, char simbolo) {
+        if (!util(a, p)) {
+            return false;
+        }
+        if (!vistos.get(p).add(new ConjuntoEstados(s))) {
+            return false;
+        }
+        List<Integer> antichain = antichains.get(p);
+        for (int nodo : antichain) {
+            if (incluido(conjuntos.get(nodo), s)) {
+                return false;
+            }
+        }
+        // Los que contienen a s quedan subsumidos por el nuevo
+        for (int i = antichain.size() - 1; i >= 0; i--) {
+            int nodo = antichain.get(i);
+            if (incluido(s, conjuntos.get(nodo))) {
+                vigentes[nodo] = false;
+                antichain.remove(i);
+            }
+        }
+
+        int nuevo = conjuntos.size();
+        if (nuevo == estados.length) {
+            int capacidad = nuevo * 2;
+            estados = Arrays.copyOf(estados, capacidad);
+            padres = Arrays.copyOf(padres, capacidad);
+            simbolos = Arrays.copyOf(simbolos, capacidad);
+            vigentes = Arrays.copyOf(vigentes, capacidad);
+        }
+        conjuntos.add(s);
+        estados[nuevo] = p;
+        padres[nuevo] = padre;
+        simbolos[nuevo] = simbolo;
+        vigentes[nuevo] = true;
+        antichain.add(nuevo);
+        return a.esFinal(p) && !b.contieneFinal(s);
+    }
+
+    private void filtrar(long[] conjunto) {
+        for (int w = 0; w < conjunto.length; w++) {
+            conjunto[w] &= utilesB[w];
+        }
+    }
+
+    private static boolean incluido(long[] menor, long[] mayor) {
+        for (int w = 0; w < menor.length; w++) {
+            if ((menor[w] & ~mayor[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] miembros(long[] conjunto) {
+        int total = 0;
+        for (long palabra : conjunto) {
+            total += Long.bitCount(palabra);
+        }
+        int[] resultado = new int[total];
+        int i = 0;
+        for (int w = 0; w < conjunto.length; w++) {
+            long palabra = conjunto[w];
+            while (palabra != 0) {
+                resultado[i++] = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                palabra &= palabra - 1;
+            }
+        }
+        return resultado;
+    }
+
+    private String palabra(int nodo) {
+        StringBuilder sb = new StringBuilder();
+        while (padres[nodo] >= 0) {
+            sb.append(simbolos[nodo]);
+            nodo = padres[nodo];
+        }
+        return sb.reverse().toString();
+    }
+}
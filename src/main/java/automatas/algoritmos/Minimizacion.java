@@ -7,19 +7,55 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public class Minimizacion {
+
+    /**
+     * Algoritmo usado por {@link #minimizar()}.
+     */
+    public enum Algoritmo {
+        /** Refinamiento por firmas de subgrupos; referencia, O(n²·|Σ|) por ronda. */
+        SUBGRUPOS,
+        /** Hopcroft con listas de predecesores, O(n·|Σ|·log n). */
+        HOPCROFT,
+        /** Valmari–Lehtinen sobre la función parcial, O(m·log n) sin sumidero. */
+        VALMARI
+    }
+
     private AFD afd;
     private List<Set<String>> particiones;
+    private Algoritmo algoritmo = Algoritmo.HOPCROFT;
     
     public Minimizacion(AFD afd) {
         this.afd = afd;
         this.particiones = new ArrayList<>();
     }
     
+    public void setAlgoritmo(Algoritmo algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+    
+    public Algoritmo getAlgoritmo() {
+        return algoritmo;
+    }
+    
     /**
-     * Minimiza el AFD usando el algoritmo de partición por subgrupos
+     * Minimiza el AFD con el algoritmo configurado (Hopcroft por defecto).
+     * Los estados del resultado se nombran con el menor nombre de su clase.
      * @return AFD minimizado equivalente al original
      */
     public AFD minimizar() {
+        if (algoritmo == Algoritmo.HOPCROFT) {
+            return new MinimizacionHopcroft(afd).minimizar();
+        }
+        if (algoritmo == Algoritmo.VALMARI) {
+            return new MinimizacionValmari(afd).minimizar();
+        }
+        return minimizarPorSubgrupos();
+    }
+    
+    /**
+     * Minimiza el AFD usando el algoritmo de partición por subgrupos
+     */
+    private AFD minimizarPorSubgrupos() {
         // Paso 1: Eliminar estados inaccesibles
         AFD afdAccesible = eliminarEstadosInaccesibles();
         
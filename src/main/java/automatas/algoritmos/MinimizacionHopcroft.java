@@ -0,0 +1,279 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Minimización de Hopcroft en O(n·|Σ|·log n) sobre estados numerados.
+ *
+ * El AFD parcial se completa con un sumidero implícito (índice n) y se
+ * refina la partición {finales, no finales} con una lista de trabajo de
+ * divisores (bloque, símbolo), usando listas de predecesores por símbolo.
+ * Al dividir un bloque solo se encola la mitad más chica, salvo que el
+ * bloque ya estuviera pendiente. La clase del sumidero (estados desde los que
+ * no se llega a un final) se descarta al construir el resultado, que vuelve a
+ * ser parcial.
+ */
+class MinimizacionHopcroft {
+
+    private final AFD afd;
+
+    // Estados accesibles numerados; el sumidero es el índice n
+    private final List<String> nombres = new ArrayList<>();
+    private final char[] simbolos;
+    private int n;
+    private int[] delta;
+
+    // Partición: elementos agrupados por bloque en [inicio, fin)
+    private int[] elementos;
+    private int[] posicion;
+    private int[] bloque;
+    private int[] inicio;
+    private int[] fin;
+    private int[] marcados;
+    private int numBloques;
+
+    MinimizacionHopcroft(AFD afd) {
+        this.afd = afd;
+        List<Character> alfabeto = new ArrayList<>(afd.getAlfabeto());
+        alfabeto.sort(null);
+        simbolos = new char[alfabeto.size()];
+        for (int i = 0; i < simbolos.length; i++) {
+            simbolos[i] = alfabeto.get(i);
+        }
+    }
+
+    AFD minimizar() {
+        numerarAccesibles();
+        refinar();
+        return construir();
+    }
+
+    /**
+     * BFS desde el inicial; las transiciones ausentes van al sumidero.
+     */
+    private void numerarAccesibles() {
+        Map<String, Integer> indices = new HashMap<>();
+        Queue<String> cola = new ArrayDeque<>();
+        indices.put(afd.getEstadoInicial(), 0);
+        nombres.add(afd.getEstadoInicial());
+        cola.add(afd.getEstadoInicial());
+        while (!cola.isEmpty()) {
+            Map<Character, String> trans = afd.getTransiciones().get(cola.poll());
+            if (trans == null) {
+                continue;
+            }
+            for (String destino : trans.values()) {
+                if (!indices.containsKey(destino)) {
+                    indices.put(destino, nombres.size());
+                    nombres.add(destino);
+                    cola.add(destino);
+                }
+            }
+        }
+
+        n = nombres.size();
+        final int k = simbolos.length;
+        delta = new int[(n + 1) * k];
+        Arrays.fill(delta, n);
+        for (int q = 0; q < n; q++) {
+            Map<Character, String> trans = afd.getTransiciones().get(nombres.get(q));
+            if (trans == null) {
+                continue;
+            }
+            for (int a = 0; a < k; a++) {
+                String destino = trans.get(simbolos[a]);
+                if (destino != null) {
+                    delta[q * k + a] = indices.get(destino);
+                }
+            }
+        }
+    }
+
+    private void refinar() {
+        final int total = n + 1;
+        final int k = simbolos.length;
+
+        // Predecesores por (símbolo, destino) en formato CSR
+        int[] cuenta = new int[k * total + 1];
+        for (int q = 0; q < total; q++) {
+            for (int a = 0; a < k; a++) {
+                cuenta[a * total + delta[q * k + a] + 1]++;
+            }
+        }
+        for (int i = 1; i < cuenta.length; i++) {
+            cuenta[i] += cuenta[i - 1];
+        }
+        int[] predecesores = new int[total * k];
+        int[] llenado = Arrays.copyOf(cuenta, cuenta.length - 1);
+        for (int q = 0; q < total; q++) {
+            for (int a = 0; a < k; a++) {
+                predecesores[llenado[a * total + delta[q * k + a]]++] = q;
+            }
+        }
+
+        // Partición inicial: finales primero, luego no finales (incluye el sumidero)
+        elementos = new int[total];
+        posicion = new int[total];
+        bloque = new int[total];
+        inicio = new int[total];
+        fin = new int[total];
+        marcados = new int[total];
+        int siguiente = 0;
+        for (int q = 0; q < n; q++) {
+            if (afd.getEstadosFinales().contains(nombres.get(q))) {
+                elementos[siguiente++] = q;
+            }
+        }
+        int numFinales = siguiente;
+        for (int q = 0; q <= n; q++) {
+            if (q == n || !afd.getEstadosFinales().contains(nombres.get(q))) {
+                elementos[siguiente++] = q;
+            }
+        }
+        numBloques = 0;
+        if (numFinales > 0) {
+            crearBloque(0, numFinales);
+        }
+        crearBloque(numFinales, total);
+
+        // Lista de trabajo de divisores bloque * k + símbolo, sin repetidos
+        boolean[] pendiente = new boolean[total * Math.max(1, k)];
+        int[] trabajo = new int[total * Math.max(1, k)];
+        int numTrabajo = 0;
+        if (numBloques == 2) {
+            int menor = numFinales <= total - numFinales ? 0 : 1;
+            for (int a = 0; a < k; a++) {
+                pendiente[menor * k + a] = true;
+                trabajo[numTrabajo++] = menor * k + a;
+            }
+        }
+
+        int[] tocados = new int[total];
+        int[] divisores = new int[total];
+        while (numTrabajo > 0) {
+            int divisor = trabajo[--numTrabajo];
+            int b = divisor / k;
+            int a = divisor % k;
+            pendiente[divisor] = false;
+
+            // Copia del bloque divisor: marcar reordena los elementos de los bloques
+            int tamanoDivisor = fin[b] - inicio[b];
+            System.arraycopy(elementos, inicio[b], divisores, 0, tamanoDivisor);
+
+            // Marcar los predecesores de los estados del bloque b por a
+            int numTocados = 0;
+            for (int i = 0; i < tamanoDivisor; i++) {
+                int q = divisores[i];
+                int base = a * total + q;
+                for (int j = cuenta[base]; j < cuenta[base + 1]; j++) {
+                    int p = predecesores[j];
+                    int bp = bloque[p];
+                    int destino = inicio[bp] + marcados[bp];
+                    if (posicion[p] < destino) {
+                        continue;
+                    }
+                    if (marcados[bp] == 0) {
+                        tocados[numTocados++] = bp;
+                    }
+                    intercambiar(posicion[p], destino);
+                    marcados[bp]++;
+                }
+            }
+
+            // Dividir los bloques marcados parcialmente
+            for (int t = 0; t < numTocados; t++) {
+                int bp = tocados[t];
+                int m = marcados[bp];
+                marcados[bp] = 0;
+                int tamano = fin[bp] - inicio[bp];
+                if (m == tamano) {
+                    continue;
+                }
+                int nuevo = crearBloque(inicio[bp], inicio[bp] + m);
+                inicio[bp] += m;
+                int menor = m <= tamano - m ? nuevo : bp;
+                for (int c = 0; c < k; c++) {
+                    int encolar = pendiente[bp * k + c] ? nuevo : menor;
+                    pendiente[encolar * k + c] = true;
+                    trabajo[numTrabajo++] = encolar * k + c;
+                }
+            }
+        }
+    }
+
+    private int crearBloque(int desde, int hasta) {
+        int b = numBloques++;
+        inicio[b] = desde;
+        fin[b] = hasta;
+        for (int i = desde; i < hasta; i++) {
+            bloque[elementos[i]] = b;
+            posicion[elementos[i]] = i;
+        }
+        return b;
+    }
+
+    private void intercambiar(int i, int j) {
+        int x = elementos[i];
+        int y = elementos[j];
+        elementos[i] = y;
+        elementos[j] = x;
+        posicion[y] = i;
+        posicion[x] = j;
+    }
+
+    /**
+     * Un estado por bloque, con el nombre lexicográficamente menor de sus
+     * miembros; el bloque del sumidero no se incluye.
+     */
+    private AFD construir() {
+        final int k = simbolos.length;
+        final int sumidero = bloque[n];
+        String[] nombreBloque = new String[numBloques];
+        for (int q = 0; q < n; q++) {
+            int b = bloque[q];
+            if (nombreBloque[b] == null || nombres.get(q).compareTo(nombreBloque[b]) < 0) {
+                nombreBloque[b] = nombres.get(q);
+            }
+        }
+
+        Set<String> estados = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        for (int b = 0; b < numBloques; b++) {
+            if (b == sumidero) {
+                continue;
+            }
+            String nombre = nombreBloque[b];
+            estados.add(nombre);
+            int representante = elementos[inicio[b]];
+            if (afd.getEstadosFinales().contains(nombres.get(representante))) {
+                finales.add(nombre);
+            }
+            Map<Character, String> trans = new HashMap<>();
+            for (int a = 0; a < k; a++) {
+                int destino = bloque[delta[representante * k + a]];
+                if (destino != sumidero) {
+                    trans.put(simbolos[a], nombreBloque[destino]);
+                }
+            }
+            transiciones.put(nombre, trans);
+        }
+
+        // Si el lenguaje es vacío el inicial cae en el sumidero: queda solo
+        String inicial = nombreBloque[bloque[0]];
+        if (bloque[0] == sumidero) {
+            estados.add(inicial);
+            transiciones.put(inicial, new HashMap<>());
+        }
+        return new AFD(estados, afd.getAlfabeto(), transiciones, inicial, finales);
+    }
+}
@@ -0,0 +1,368 @@
+package automatas.algoritmos;
+
+import automatas.core.AFD;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimización de Valmari–Lehtinen para AFDs parciales, en O(m log n) con m
+ * el número de transiciones existentes: no se agrega sumidero ni se completa
+ * la función de transición.
+ *
+ * Se mantienen dos particiones refinables, una de estados (bloques) y otra de
+ * transiciones (cuerdas, agrupadas al inicio por símbolo). Cada cuerda divide
+ * los bloques según el origen de sus transiciones y cada bloque nuevo divide
+ * las cuerdas según el destino, hasta que ninguna de las dos cambia. Antes se
+ * descartan los estados inaccesibles y los que no llegan a un final.
+ */
+class MinimizacionValmari {
+
+    private final AFD afd;
+
+    private final List<String> nombres = new ArrayList<>();
+    private final List<Character> simbolos = new ArrayList<>();
+    private int numEstados;
+    private int numTransiciones;
+    private int inicial;
+    // Transición t: origen[t] --etiqueta[t]--> destino[t]
+    private int[] origen;
+    private int[] etiqueta;
+    private int[] destino;
+    private int[] finalesEntrada;
+
+    // Transiciones adyacentes a cada estado: adyacentes[inicioAdyacentes[q] .. inicioAdyacentes[q + 1])
+    private int[] adyacentes;
+    private int[] inicioAdyacentes;
+
+    // Estados marcados como alcanzados en la fase de poda
+    private int numAlcanzados;
+
+    // Compartidos por ambas particiones: solo una tiene marcas a la vez
+    private int[] marcados;
+    private int[] pendientes;
+    private int numPendientes;
+
+    private Particion bloques;
+    private Particion cuerdas;
+
+    MinimizacionValmari(AFD afd) {
+        this.afd = afd;
+    }
+
+    AFD minimizar() {
+        leer();
+
+        bloques = new Particion(numEstados);
+        adyacentes = new int[numTransiciones];
+        inicioAdyacentes = new int[numEstados + 1];
+
+        // Podar inaccesibles y estados que no llegan a un final
+        alcanzar(inicial);
+        podar(origen, destino);
+        for (int q : finalesEntrada) {
+            if (bloques.posicion[q] < bloques.fin[0]) {
+                alcanzar(q);
+            }
+        }
+        int numFinales = numAlcanzados;
+        podar(destino, origen);
+
+        if (numFinales == 0 || bloques.posicion[inicial] >= bloques.fin[0]) {
+            // Lenguaje vacío: solo queda el estado inicial
+            String nombreInicial = nombres.get(inicial);
+            Map<String, Map<Character, String>> transiciones = new HashMap<>();
+            transiciones.put(nombreInicial, new HashMap<>());
+            return new AFD(new HashSet<>(Set.of(nombreInicial)), afd.getAlfabeto(), transiciones,
+                    nombreInicial, new HashSet<>());
+        }
+
+        // Partición inicial: finales (al frente) y no finales
+        pendientes = new int[Math.max(numEstados, numTransiciones) + 1];
+        marcados = new int[Math.max(numEstados, numTransiciones) + 1];
+        marcados[0] = numFinales;
+        pendientes[numPendientes++] = 0;
+        bloques.dividir();
+
+        // Partición de transiciones por símbolo
+        cuerdas = new Particion(numTransiciones);
+        if (numTransiciones > 0) {
+            ordenarPorSimbolo(cuerdas.elementos);
+            cuerdas.numConjuntos = 0;
+            marcados[0] = 0;
+            int a = etiqueta[cuerdas.elementos[0]];
+            for (int i = 0; i < numTransiciones; i++) {
+                int t = cuerdas.elementos[i];
+                if (etiqueta[t] != a) {
+                    a = etiqueta[t];
+                    cuerdas.fin[cuerdas.numConjuntos++] = i;
+                    cuerdas.inicio[cuerdas.numConjuntos] = i;
+                    marcados[cuerdas.numConjuntos] = 0;
+                }
+                cuerdas.conjunto[t] = cuerdas.numConjuntos;
+                cuerdas.posicion[t] = i;
+            }
+            cuerdas.fin[cuerdas.numConjuntos++] = numTransiciones;
+        }
+
+        // Refinar bloques y cuerdas hasta el punto fijo
+        calcularAdyacentes(destino);
+        int b = 1;
+        int c = 0;
+        while (c < cuerdas.numConjuntos) {
+            for (int i = cuerdas.inicio[c]; i < cuerdas.fin[c]; i++) {
+                bloques.marcar(origen[cuerdas.elementos[i]]);
+            }
+            bloques.dividir();
+            c++;
+            while (b < bloques.numConjuntos) {
+                for (int i = bloques.inicio[b]; i < bloques.fin[b]; i++) {
+                    int q = bloques.elementos[i];
+                    for (int j = inicioAdyacentes[q]; j < inicioAdyacentes[q + 1]; j++) {
+                        cuerdas.marcar(adyacentes[j]);
+                    }
+                }
+                cuerdas.dividir();
+                b++;
+            }
+        }
+
+        return construir(numFinales);
+    }
+
+    /**
+     * Numera estados y símbolos y copia las transiciones existentes.
+     */
+    private void leer() {
+        Map<String, Integer> indices = new HashMap<>();
+        indices.put(afd.getEstadoInicial(), 0);
+        nombres.add(afd.getEstadoInicial());
+        for (String estado : afd.getEstados()) {
+            if (!indices.containsKey(estado)) {
+                indices.put(estado, nombres.size());
+                nombres.add(estado);
+            }
+        }
+        Map<Character, Integer> etiquetas = new HashMap<>();
+        List<int[]> transiciones = new ArrayList<>();
+        for (Map.Entry<String, Map<Character, String>> entry : afd.getTransiciones().entrySet()) {
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                for (String estado : new String[]{entry.getKey(), t.getValue()}) {
+                    if (!indices.containsKey(estado)) {
+                        indices.put(estado, nombres.size());
+                        nombres.add(estado);
+                    }
+                }
+                Integer numero = etiquetas.get(t.getKey());
+                if (numero == null) {
+                    numero = simbolos.size();
+                    etiquetas.put(t.getKey(), numero);
+                    simbolos.add(t.getKey());
+                }
+                transiciones.add(new int[]{indices.get(entry.getKey()), numero, indices.get(t.getValue())});
+            }
+        }
+
+        numEstados = nombres.size();
+        numTransiciones = transiciones.size();
+        inicial = 0;
+        origen = new int[numTransiciones];
+        etiqueta = new int[numTransiciones];
+        destino = new int[numTransiciones];
+        for (int t = 0; t < numTransiciones; t++) {
+            int[] tr = transiciones.get(t);
+            origen[t] = tr[0];
+            etiqueta[t] = tr[1];
+            destino[t] = tr[2];
+        }
+        List<Integer> finales = new ArrayList<>();
+        for (String f : afd.getEstadosFinales()) {
+            Integer q = indices.get(f);
+            if (q != null) {
+                finales.add(q);
+            }
+        }
+        finalesEntrada = finales.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Ordena las transiciones por símbolo (conteo, los símbolos son densos).
+     */
+    private void ordenarPorSimbolo(int[] orden) {
+        int[] cuenta = new int[simbolos.size() + 1];
+        for (int t = 0; t < numTransiciones; t++) {
+            cuenta[etiqueta[t] + 1]++;
+        }
+        for (int i = 1; i < cuenta.length; i++) {
+            cuenta[i] += cuenta[i - 1];
+        }
+        for (int t = 0; t < numTransiciones; t++) {
+            orden[cuenta[etiqueta[t]]++] = t;
+        }
+    }
+
+    /**
+     * Agrupa las transiciones por el extremo indicado (origen o destino).
+     */
+    private void calcularAdyacentes(int[] extremo) {
+        for (int q = 0; q <= numEstados; q++) {
+            inicioAdyacentes[q] = 0;
+        }
+        for (int t = 0; t < numTransiciones; t++) {
+            inicioAdyacentes[extremo[t]]++;
+        }
+        for (int q = 0; q < numEstados; q++) {
+            inicioAdyacentes[q + 1] += inicioAdyacentes[q];
+        }
+        for (int t = numTransiciones; t-- > 0; ) {
+            adyacentes[--inicioAdyacentes[extremo[t]]] = t;
+        }
+    }
+
+    private void alcanzar(int q) {
+        int i = bloques.posicion[q];
+        if (i >= numAlcanzados) {
+            bloques.elementos[i] = bloques.elementos[numAlcanzados];
+            bloques.posicion[bloques.elementos[i]] = i;
+            bloques.elementos[numAlcanzados] = q;
+            bloques.posicion[q] = numAlcanzados++;
+        }
+    }
+
+    /**
+     * Recorre desde los estados alcanzados siguiendo desde -> hacia y elimina
+     * las transiciones cuyo extremo {@code desde} quedó fuera.
+     */
+    private void podar(int[] desde, int[] hacia) {
+        calcularAdyacentes(desde);
+        for (int i = 0; i < numAlcanzados; i++) {
+            int q = bloques.elementos[i];
+            for (int j = inicioAdyacentes[q]; j < inicioAdyacentes[q + 1]; j++) {
+                alcanzar(hacia[adyacentes[j]]);
+            }
+        }
+        int j = 0;
+        for (int t = 0; t < numTransiciones; t++) {
+            if (bloques.posicion[desde[t]] < numAlcanzados) {
+                destino[j] = destino[t];
+                etiqueta[j] = etiqueta[t];
+                origen[j] = origen[t];
+                j++;
+            }
+        }
+        numTransiciones = j;
+        bloques.fin[0] = numAlcanzados;
+        numAlcanzados = 0;
+    }
+
+    /**
+     * Un estado por bloque, con el menor nombre de sus miembros. Los finales
+     * ocupan las posiciones [0, numFinales) de la partición.
+     */
+    private AFD construir(int numFinales) {
+        String[] nombreBloque = new String[bloques.numConjuntos];
+        for (int b = 0; b < bloques.numConjuntos; b++) {
+            for (int i = bloques.inicio[b]; i < bloques.fin[b]; i++) {
+                String nombre = nombres.get(bloques.elementos[i]);
+                if (nombreBloque[b] == null || nombre.compareTo(nombreBloque[b]) < 0) {
+                    nombreBloque[b] = nombre;
+                }
+            }
+        }
+
+        Set<String> estados = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        for (int b = 0; b < bloques.numConjuntos; b++) {
+            estados.add(nombreBloque[b]);
+            transiciones.put(nombreBloque[b], new HashMap<>());
+            if (bloques.inicio[b] < numFinales) {
+                finales.add(nombreBloque[b]);
+            }
+        }
+        for (int t = 0; t < numTransiciones; t++) {
+            // Solo las transiciones del primer miembro de cada bloque
+            int b = bloques.conjunto[origen[t]];
+            if (bloques.elementos[bloques.inicio[b]] == origen[t]) {
+                transiciones.get(nombreBloque[b]).put(simbolos.get(etiqueta[t]),
+                        nombreBloque[bloques.conjunto[destino[t]]]);
+            }
+        }
+        return new AFD(estados, afd.getAlfabeto(), transiciones,
+                nombreBloque[bloques.conjunto[inicial]], finales);
+    }
+
+    /**
+     * Partición refinable: los elementos del conjunto s ocupan
+     * elementos[inicio[s] .. fin[s]); posicion[e] es la posición de e y
+     * conjunto[e] el conjunto al que pertenece. Marcar mueve el elemento al
+     * frente de su conjunto; dividir separa los marcados.
+     */
+    private final class Particion {
+        int numConjuntos;
+        final int[] elementos;
+        final int[] posicion;
+        final int[] conjunto;
+        final int[] inicio;
+        final int[] fin;
+
+        Particion(int n) {
+            numConjuntos = n > 0 ? 1 : 0;
+            elementos = new int[n];
+            posicion = new int[n];
+            conjunto = new int[n];
+            inicio = new int[n + 1];
+            fin = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                elementos[i] = i;
+                posicion[i] = i;
+                conjunto[i] = 0;
+            }
+            if (numConjuntos > 0) {
+                inicio[0] = 0;
+                fin[0] = n;
+            }
+        }
+
+        void marcar(int e) {
+            int s = conjunto[e];
+            int i = posicion[e];
+            int j = inicio[s] + marcados[s];
+            elementos[i] = elementos[j];
+            posicion[elementos[i]] = i;
+            elementos[j] = e;
+            posicion[e] = j;
+            if (marcados[s]++ == 0) {
+                pendientes[numPendientes++] = s;
+            }
+        }
+
+        void dividir() {
+            while (numPendientes > 0) {
+                int s = pendientes[--numPendientes];
+                int j = inicio[s] + marcados[s];
+                if (j == fin[s]) {
+                    marcados[s] = 0;
+                    continue;
+                }
+                // El conjunto nuevo se queda con la parte más chica
+                int nuevo = numConjuntos;
+                if (marcados[s] <= fin[s] - j) {
+                    inicio[nuevo] = inicio[s];
+                    fin[nuevo] = inicio[s] = j;
+                } else {
+                    fin[nuevo] = fin[s];
+                    inicio[nuevo] = fin[s] = j;
+                }
+                for (int i = inicio[nuevo]; i < fin[nuevo]; i++) {
+                    conjunto[elementos[i]] = nuevo;
+                }
+                marcados[s] = 0;
+                marcados[numConjuntos++] = 0;
+            }
+        }
+    }
+}
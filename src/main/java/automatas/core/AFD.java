@@ -18,6 +18,7 @@ public class AFD implements Automata {
     private Map<String, Map<Character, String>> transiciones;
     private String estadoInicial;
     private Set<String> estadosFinales;
+    private volatile AFDCompilado compilado;
 
     public AFD(Set<String> estados,
             Set<Character> alfabeto,
@@ -33,18 +34,28 @@ public class AFD implements Automata {
 
     @Override
     public boolean acepta(String cadena) {
-        String estadoActual = estadoInicial;
-        for (char simbolo : cadena.toCharArray()) {
-            if (!transiciones.containsKey(estadoActual)) {
-                return false;
-            }
-            Map<Character, String> mapa = transiciones.get(estadoActual);
-            if (!mapa.containsKey(simbolo)) {
-                return false;
-            }
-            estadoActual = mapa.get(simbolo);
+        return compilar().acepta(cadena);
+    }
+
+    /**
+     * Ejecución incremental sobre la forma compilada; alimentarla no asigna memoria.
+     */
+    @Override
+    public Ejecucion iniciarEjecucion() {
+        return new EjecucionAFD(compilar());
+    }
+
+    /**
+     * Devuelve la forma compilada (tabla densa) del AFD, construyéndola la
+     * primera vez. El AFD no debe modificarse después de compilarlo.
+     */
+    public AFDCompilado compilar() {
+        AFDCompilado c = compilado;
+        if (c == null) {
+            c = new AFDCompilado(this);
+            compilado = c;
         }
-        return estadosFinales.contains(estadoActual);
+        return c;
     }
 
     @Override
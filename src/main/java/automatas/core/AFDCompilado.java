@@ -0,0 +1,239 @@
+package automatas.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Forma compilada de un AFD para evaluar cadenas rápidamente.
+ *
+ * Los estados se renumeran como enteros, cada símbolo del alfabeto se asigna
+ * a una columna densa y las transiciones se guardan en un único arreglo plano
+ * {@code tabla[estado * numSimbolos + columna]}. Una transición inexistente
+ * vale {@link #SIN_TRANSICION} y significa rechazo, igual que en {@link AFD}.
+ *
+ * La instancia es inmutable y puede compartirse entre hilos.
+ */
+public final class AFDCompilado {
+
+    /** Destino de una transición que no existe (estado muerto implícito). */
+    public static final int SIN_TRANSICION = -1;
+
+    private final String[] nombres;
+    private final int estadoInicial;
+    private final boolean[] finales;
+
+    // Símbolo -> columna: columnas[c - simboloMinimo], -1 si no pertenece al alfabeto
+    private final char simboloMinimo;
+    private final int[] columnas;
+    private final char[] simbolos;
+
+    private final int[] tabla;
+
+    // Estados desde los que se alcanza algún final
+    private final boolean[] vivos;
+
+    public AFDCompilado(AFD afd) {
+        Map<String, Map<Character, String>> transiciones = afd.getTransiciones();
+
+        // Numerar estados: los declarados y cualquiera que aparezca en transiciones
+        Map<String, Integer> indices = new HashMap<>();
+        if (afd.getEstadoInicial() != null) {
+            indices.putIfAbsent(afd.getEstadoInicial(), indices.size());
+        }
+        for (String estado : afd.getEstados()) {
+            indices.putIfAbsent(estado, indices.size());
+        }
+        Set<Character> alfabeto = new HashSet<>(afd.getAlfabeto());
+        for (Map.Entry<String, Map<Character, String>> entry : transiciones.entrySet()) {
+            indices.putIfAbsent(entry.getKey(), indices.size());
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                indices.putIfAbsent(t.getValue(), indices.size());
+                alfabeto.add(t.getKey());
+            }
+        }
+        alfabeto.remove(null);
+
+        nombres = new String[indices.size()];
+        for (Map.Entry<String, Integer> e : indices.entrySet()) {
+            nombres[e.getValue()] = e.getKey();
+        }
+
+        // Columnas densas ordenadas por símbolo
+        simbolos = new char[alfabeto.size()];
+        int k = 0;
+        for (Character c : alfabeto) {
+            simbolos[k++] = c;
+        }
+        Arrays.sort(simbolos);
+
+        if (simbolos.length == 0) {
+            simboloMinimo = 0;
+            columnas = new int[0];
+        } else {
+            simboloMinimo = simbolos[0];
+            columnas = new int[simbolos[simbolos.length - 1] - simboloMinimo + 1];
+            Arrays.fill(columnas, SIN_TRANSICION);
+            for (int i = 0; i < simbolos.length; i++) {
+                columnas[simbolos[i] - simboloMinimo] = i;
+            }
+        }
+
+        // Tabla plana de transiciones
+        tabla = new int[nombres.length * simbolos.length];
+        Arrays.fill(tabla, SIN_TRANSICION);
+        for (Map.Entry<String, Map<Character, String>> entry : transiciones.entrySet()) {
+            int origen = indices.get(entry.getKey());
+            for (Map.Entry<Character, String> t : entry.getValue().entrySet()) {
+                if (t.getKey() == null) {
+                    continue;
+                }
+                tabla[origen * simbolos.length + columna(t.getKey())] = indices.get(t.getValue());
+            }
+        }
+
+        finales = new boolean[nombres.length];
+        for (String f : afd.getEstadosFinales()) {
+            Integer i = indices.get(f);
+            if (i != null) {
+                finales[i] = true;
+            }
+        }
+
+        estadoInicial = afd.getEstadoInicial() == null
+                ? SIN_TRANSICION
+                : indices.get(afd.getEstadoInicial());
+        vivos = calcularVivos();
+    }
+
+    /**
+     * BFS hacia atrás desde los finales sobre la tabla invertida (en formato
+     * CSR: predecesores de q en [inicio[q], inicio[q + 1])).
+     */
+    private boolean[] calcularVivos() {
+        final int n = nombres.length;
+        final int k = simbolos.length;
+        int[] inicio = new int[n + 1];
+        for (int destino : tabla) {
+            if (destino != SIN_TRANSICION) {
+                inicio[destino + 1]++;
+            }
+        }
+        for (int q = 0; q < n; q++) {
+            inicio[q + 1] += inicio[q];
+        }
+        int[] predecesores = new int[inicio[n]];
+        int[] llenos = Arrays.copyOf(inicio, n);
+        for (int i = 0; i < tabla.length; i++) {
+            if (tabla[i] != SIN_TRANSICION) {
+                predecesores[llenos[tabla[i]]++] = i / k;
+            }
+        }
+
+        boolean[] resultado = new boolean[n];
+        int[] cola = new int[n];
+        int fin = 0;
+        for (int q = 0; q < n; q++) {
+            if (finales[q]) {
+                resultado[q] = true;
+                cola[fin++] = q;
+            }
+        }
+        for (int i = 0; i < fin; i++) {
+            int q = cola[i];
+            for (int j = inicio[q]; j < inicio[q + 1]; j++) {
+                int p = predecesores[j];
+                if (!resultado[p]) {
+                    resultado[p] = true;
+                    cola[fin++] = p;
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Evalúa la cadena recorriendo la tabla, sin copias ni boxing.
+     */
+    public boolean acepta(CharSequence cadena) {
+        int estado = estadoInicial;
+        final int n = cadena.length();
+        for (int i = 0; i < n && estado != SIN_TRANSICION; i++) {
+            estado = siguiente(estado, cadena.charAt(i));
+        }
+        return estado != SIN_TRANSICION && finales[estado];
+    }
+
+    /**
+     * Transición δ(estado, simbolo), o {@link #SIN_TRANSICION} si no existe.
+     */
+    public int siguiente(int estado, char simbolo) {
+        int offset = simbolo - simboloMinimo;
+        if (offset < 0 || offset >= columnas.length) {
+            return SIN_TRANSICION;
+        }
+        int col = columnas[offset];
+        if (col == SIN_TRANSICION) {
+            return SIN_TRANSICION;
+        }
+        return tabla[estado * simbolos.length + col];
+    }
+
+    /**
+     * Columna densa del símbolo, o {@link #SIN_TRANSICION} si no es del alfabeto.
+     */
+    public int columna(char simbolo) {
+        int offset = simbolo - simboloMinimo;
+        if (offset < 0 || offset >= columnas.length) {
+            return SIN_TRANSICION;
+        }
+        return columnas[offset];
+    }
+
+    /**
+     * Transición usando la columna ya resuelta con {@link #columna(char)}.
+     */
+    public int siguientePorColumna(int estado, int columna) {
+        return tabla[estado * simbolos.length + columna];
+    }
+
+    public int getEstadoInicial() {
+        return estadoInicial;
+    }
+
+    public boolean esFinal(int estado) {
+        return finales[estado];
+    }
+
+    /**
+     * Indica si desde el estado se puede llegar a un final; si no, es un
+     * sumidero de rechazo aunque tenga transiciones.
+     */
+    public boolean esVivo(int estado) {
+        return vivos[estado];
+    }
+
+    public int getNumEstados() {
+        return nombres.length;
+    }
+
+    public int getNumSimbolos() {
+        return simbolos.length;
+    }
+
+    /**
+     * Símbolo asociado a una columna.
+     */
+    public char getSimbolo(int columna) {
+        return simbolos[columna];
+    }
+
+    /**
+     * Nombre original del estado con el índice dado.
+     */
+    public String getNombre(int estado) {
+        return nombres[estado];
+    }
+}
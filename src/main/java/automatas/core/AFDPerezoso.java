@@ -0,0 +1,254 @@
+package automatas.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AFD construido bajo demanda ("lazy DFA") sobre un {@link AFNDCompilado}.
+ *
+ * Solo se determinizan los subconjuntos que las entradas realmente alcanzan.
+ * Los estados descubiertos y sus transiciones se guardan en una tabla que
+ * empieza chica y se duplica a medida que hace falta, hasta {@code capacidad}
+ * estados; cuando se llena, se vacía por completo y se
+ * vuelve a poblar con los estados que sigan en uso. Si una misma cadena obliga
+ * a vaciar la tabla repetidamente (la caché no da abasto), el resto de esa
+ * cadena se procesa con la simulación por bits del AFND; si esto se repite en
+ * varias cadenas seguidas, se simula directamente y solo de vez en cuando se
+ * vuelve a probar la caché.
+ *
+ * No es seguro para hilos: cada hilo debe usar su propia instancia.
+ */
+public final class AFDPerezoso {
+
+    /** Capacidad por defecto de la tabla de estados. */
+    public static final int CAPACIDAD_POR_DEFECTO = 4096;
+
+    // Estados que caben en la tabla al crearla
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    // Valores especiales de la tabla de transiciones
+    private static final int DESCONOCIDO = -2;
+    private static final int MUERTO = -1;
+
+    // Vaciados tolerados en una misma cadena antes de pasar a simulación del AFND
+    private static final int VACIADOS_ANTES_DE_SIMULAR = 3;
+    // Cadenas seguidas que acabaron simuladas antes de simular directamente,
+    // y cada cuántas cadenas se vuelve a probar la caché en ese modo
+    private static final int SIMULADAS_ANTES_DE_DESISTIR = 8;
+    private static final int REINTENTO_CACHE = 64;
+
+    private final AFNDCompilado afnd;
+    private final int capacidad;
+    private final int numSimbolos;
+
+    private final Map<ConjuntoEstados, Integer> indice = new HashMap<>();
+    private ConjuntoEstados[] conjuntos;
+    private boolean[] finales;
+    private int[] tabla;
+    private int numEstados;
+
+    private final long[] auxiliar;
+    private int simuladasSeguidas;
+    private int cadenasSinCache;
+    private boolean simuladaRecien;
+
+    // Estadísticas
+    private long estadosCreados;
+    private long vaciados;
+    private long simulaciones;
+
+    public AFDPerezoso(AFNDCompilado afnd) {
+        this(afnd, CAPACIDAD_POR_DEFECTO);
+    }
+
+    public AFDPerezoso(AFNDCompilado afnd, int capacidad) {
+        // Tras un vaciado conviven el inicial, el origen y el destino
+        if (capacidad < 3) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 3");
+        }
+        this.afnd = afnd;
+        this.capacidad = capacidad;
+        this.numSimbolos = afnd.getNumSimbolos();
+        int inicial = Math.min(capacidad, CAPACIDAD_INICIAL);
+        this.conjuntos = new ConjuntoEstados[inicial];
+        this.finales = new boolean[inicial];
+        this.tabla = new int[inicial * numSimbolos];
+        this.auxiliar = afnd.nuevoConjunto();
+        vaciar();
+    }
+
+    /**
+     * Evalúa la cadena recorriendo el AFD parcial y completándolo cuando
+     * aparece una transición todavía no calculada.
+     */
+    public boolean acepta(CharSequence cadena) {
+        if (simuladasSeguidas >= SIMULADAS_ANTES_DE_DESISTIR
+                && ++cadenasSinCache % REINTENTO_CACHE != 0) {
+            // La caché viene fallando: simular directamente y reintentar de vez en cuando
+            afnd.copiarInicial(auxiliar);
+            return simularDesde(auxiliar, cadena, 0);
+        }
+        boolean resultado = recorrer(cadena);
+        if (!simuladaRecien) {
+            simuladasSeguidas = 0;
+            cadenasSinCache = 0;
+        }
+        return resultado;
+    }
+
+    private boolean recorrer(CharSequence cadena) {
+        simuladaRecien = false;
+        int estado = inicial();
+        long vaciadosAlInicio = vaciados;
+        final int n = cadena.length();
+
+        for (int i = 0; i < n; i++) {
+            int col = afnd.columna(cadena.charAt(i));
+            if (col < 0) {
+                return false;
+            }
+            int siguiente = tabla[estado * numSimbolos + col];
+            if (siguiente == DESCONOCIDO) {
+                long vaciadosAntes = vaciados;
+                siguiente = calcular(estado, col);
+                if (vaciados != vaciadosAntes
+                        && vaciados - vaciadosAlInicio >= VACIADOS_ANTES_DE_SIMULAR
+                        && siguiente != MUERTO) {
+                    // La caché no da abasto para esta cadena
+                    simuladaRecien = true;
+                    simuladasSeguidas++;
+                    return simularDesde(conjuntos[siguiente].getBits(), cadena, i + 1);
+                }
+            }
+            if (siguiente == MUERTO) {
+                return false;
+            }
+            estado = siguiente;
+        }
+        return finales[estado];
+    }
+
+    /**
+     * Continúa con la simulación por bits del AFND a partir de un conjunto.
+     */
+    private boolean simularDesde(long[] conjunto, CharSequence cadena, int desde) {
+        simulaciones++;
+        long[] actual = conjunto.clone();
+        long[] siguiente = afnd.nuevoConjunto();
+        final int n = cadena.length();
+        for (int i = desde; i < n; i++) {
+            if (!afnd.mover(actual, cadena.charAt(i), siguiente)) {
+                return false;
+            }
+            long[] tmp = actual;
+            actual = siguiente;
+            siguiente = tmp;
+        }
+        return afnd.contieneFinal(actual);
+    }
+
+    private int inicial() {
+        // Tras un vaciado el estado inicial siempre se vuelve a insertar como 0
+        if (numEstados == 0) {
+            afnd.copiarInicial(auxiliar);
+            return registrar(new ConjuntoEstados(auxiliar.clone()));
+        }
+        return 0;
+    }
+
+    /**
+     * Calcula y memoriza la transición (estado, col). Puede vaciar la tabla,
+     * en cuyo caso el índice devuelto pertenece a la tabla nueva.
+     */
+    private int calcular(int estado, int col) {
+        if (!afnd.moverPorColumna(conjuntos[estado].getBits(), col, auxiliar)) {
+            tabla[estado * numSimbolos + col] = MUERTO;
+            return MUERTO;
+        }
+        ConjuntoEstados destino = new ConjuntoEstados(auxiliar.clone());
+        Integer existente = indice.get(destino);
+        if (existente != null) {
+            tabla[estado * numSimbolos + col] = existente;
+            return existente;
+        }
+        if (numEstados == capacidad) {
+            ConjuntoEstados origen = conjuntos[estado];
+            vaciar();
+            vaciados++;
+            inicial();
+            estado = registrar(origen);
+        }
+        int nuevo = registrar(destino);
+        tabla[estado * numSimbolos + col] = nuevo;
+        return nuevo;
+    }
+
+    private int registrar(ConjuntoEstados conjunto) {
+        Integer existente = indice.get(conjunto);
+        if (existente != null) {
+            return existente;
+        }
+        if (numEstados == conjuntos.length) {
+            crecer();
+        }
+        int id = numEstados++;
+        conjuntos[id] = conjunto;
+        finales[id] = afnd.contieneFinal(conjunto.getBits());
+        indice.put(conjunto, id);
+        estadosCreados++;
+        return id;
+    }
+
+    /**
+     * Duplica la tabla sin pasar de la capacidad; las filas nuevas quedan
+     * como desconocidas.
+     */
+    private void crecer() {
+        int nueva = Math.min(capacidad, conjuntos.length * 2);
+        int usadas = tabla.length;
+        conjuntos = Arrays.copyOf(conjuntos, nueva);
+        finales = Arrays.copyOf(finales, nueva);
+        tabla = Arrays.copyOf(tabla, nueva * numSimbolos);
+        Arrays.fill(tabla, usadas, tabla.length, DESCONOCIDO);
+    }
+
+    private void vaciar() {
+        indice.clear();
+        Arrays.fill(conjuntos, 0, numEstados, null);
+        Arrays.fill(tabla, DESCONOCIDO);
+        numEstados = 0;
+    }
+
+    /**
+     * Estados actualmente en la tabla.
+     */
+    public int getNumEstados() {
+        return numEstados;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Total de estados determinizados desde la creación (incluye los descartados).
+     */
+    public long getEstadosCreados() {
+        return estadosCreados;
+    }
+
+    /**
+     * Veces que la tabla se vació por falta de espacio.
+     */
+    public long getVaciados() {
+        return vaciados;
+    }
+
+    /**
+     * Cadenas que terminaron de evaluarse con la simulación del AFND.
+     */
+    public long getSimulaciones() {
+        return simulaciones;
+    }
+}
@@ -6,6 +6,8 @@ package automatas.core;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -18,6 +20,13 @@ public class AFND implements Automata {
     private final Map<String, Map<Character, Set<String>>> transiciones;
     private final String estadoInicial;
     private final Set<String> estadosFinales;
+    private volatile AFNDCompilado compilado;
+    // AFD perezosos libres: cada llamada a acepta toma uno (o crea uno si no
+    // queda ninguno) y lo devuelve al terminar, así que hay uno por hilo
+    // concurrente y se liberan junto con el AFND
+    private final ConcurrentLinkedQueue<AFDPerezoso> perezosos = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numPerezosos = new AtomicInteger();
+    private static final int MAXIMO_PEREZOSOS = Runtime.getRuntime().availableProcessors();
 
     public AFND(Set<String> estados,
             Set<Character> alfabeto,
@@ -55,80 +64,66 @@ public class AFND implements Automata {
         return transiciones;
     }
 
+    /**
+     * Evalúa con un AFD perezoso tomado del pool del AFND, de modo que
+     * llamadas repetidas, también desde varios hilos a la vez, reutilizan los
+     * estados ya calculados.
+     */
     @Override
     public boolean acepta(String cadena) {
-        // Conjunto de estados actuales comenzando desde el estado inicial
-        Set<String> actuales = epsilonCierre(Set.of(estadoInicial));
-
-        // Procesar cada símbolo de la cadena
-        for (char c : cadena.toCharArray()) {
-            Set<String> siguientes = new java.util.HashSet<>();
-
-            for (String estado : actuales) {
-                Map<Character, Set<String>> mapaSimbolos = transiciones.get(estado);
-
-                if (mapaSimbolos == null) {
-                    continue;
-                }
-
-                Set<String> destinos = mapaSimbolos.get(c);
-                if (destinos != null) {
-                    // Agrega todos los destinos posibles
-                    siguientes.addAll(destinos);
-                }
-            }
-
-            // Si no hay transiciones válidas → rechazo inmediato
-            if (siguientes.isEmpty()) {
-                return false;
-            }
-
-            // Aplicar epsilon-cierre después de cada movimiento
-            actuales = epsilonCierre(siguientes);
+        AFDPerezoso afd = tomarPerezoso();
+        try {
+            return afd.acepta(cadena);
+        } finally {
+            devolverPerezoso(afd);
         }
+    }
 
-        // Acepta si alguno de los estados actuales es final
-        for (String estado : actuales) {
-            if (estadosFinales.contains(estado)) {
-                return true;
-            }
+    /**
+     * Un AFD perezoso de uso exclusivo hasta {@link #devolverPerezoso}; se
+     * reutiliza uno libre si lo hay.
+     */
+    AFDPerezoso tomarPerezoso() {
+        AFDPerezoso afd = perezosos.poll();
+        if (afd == null) {
+            return new AFDPerezoso(compilar());
         }
-
-        return false;
+        numPerezosos.decrementAndGet();
+        return afd;
     }
 
-    private Set<String> epsilonCierre(Set<String> estadosIniciales) {
-        Set<String> cierre = new java.util.HashSet<>(estadosIniciales);
-        java.util.Stack<String> pila = new java.util.Stack<>();
-
-        // Inicializar pila
-        for (String e : estadosIniciales) {
-            pila.push(e);
+    /**
+     * Devuelve al pool un AFD tomado con {@link #tomarPerezoso}; con el pool
+     * lleno (uno por núcleo) se descarta.
+     */
+    void devolverPerezoso(AFDPerezoso afd) {
+        if (numPerezosos.incrementAndGet() <= MAXIMO_PEREZOSOS) {
+            perezosos.offer(afd);
+        } else {
+            numPerezosos.decrementAndGet();
         }
+    }
 
-        // Mientras haya estados por procesar
-        while (!pila.isEmpty()) {
-            String estado = pila.pop();
-
-            Map<Character, Set<String>> mapa = transiciones.get(estado);
-            if (mapa == null) {
-                continue;
-            }
-
-            // Transiciones vacías (~) almacenadas como 'null' en el map
-            Set<String> epsilonDestinos = mapa.get(null);
+    /**
+     * Ejecución incremental sobre la forma compilada; alimentarla no asigna memoria.
+     */
+    @Override
+    public Ejecucion iniciarEjecucion() {
+        return new EjecucionAFND(compilar());
+    }
 
-            if (epsilonDestinos != null) {
-                for (String destino : epsilonDestinos) {
-                    if (!cierre.contains(destino)) {
-                        cierre.add(destino);
-                        pila.push(destino);
-                    }
-                }
-            }
+    /**
+     * Devuelve la forma compilada (estados enteros, conjuntos como bits) del
+     * AFND, construyéndola la primera vez. El AFND no debe modificarse después
+     * de compilarlo.
+     */
+    public AFNDCompilado compilar() {
+        AFNDCompilado c = compilado;
+        if (c == null) {
+            c = new AFNDCompilado(this);
+            compilado = c;
         }
-
-        return cierre;
+        return c;
     }
 
 }
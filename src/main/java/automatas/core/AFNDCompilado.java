@@ -0,0 +1,328 @@
+package automatas.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Forma compilada de un AFND para simulación por bits en paralelo.
+ *
+ * Los estados se numeran como enteros y un conjunto de estados activos se
+ * representa con un {@code long[]} de {@link #getNumPalabras()} palabras.
+ * Las ε-clausuras se calculan una sola vez por estado y, para cada símbolo,
+ * se precalcula la máscara de sucesores {@code ε-clausura(δ(q, a))}, de modo
+ * que cada paso de la simulación se reduce a OR de palabras completas.
+ *
+ * La instancia es inmutable y puede compartirse entre hilos; los conjuntos de
+ * trabajo los aporta quien llama.
+ */
+public final class AFNDCompilado {
+
+    private final String[] nombres;
+    private final int palabras;
+
+    // Símbolo -> columna: columnas[c - simboloMinimo], -1 si no pertenece al alfabeto
+    private final char simboloMinimo;
+    private final int[] columnas;
+    private final char[] simbolos;
+
+    private final long[][] clausuras;
+    // mascaras[columna * numEstados + q] = ε-clausura(δ(q, a)), o null si no hay transición
+    private final long[][] mascaras;
+    // Columnas en las que cada estado tiene alguna transición
+    private final int[][] columnasSalida;
+
+    private final long[] inicial;
+    private final long[] finales;
+
+    public AFNDCompilado(AFND afnd) {
+        Map<String, Map<Character, Set<String>>> transiciones = afnd.getTransiciones();
+
+        // Numerar estados: los declarados y cualquiera que aparezca en transiciones
+        Map<String, Integer> indices = new HashMap<>();
+        if (afnd.getEstadoInicial() != null) {
+            indices.putIfAbsent(afnd.getEstadoInicial(), indices.size());
+        }
+        for (String estado : afnd.getEstados()) {
+            indices.putIfAbsent(estado, indices.size());
+        }
+        Set<Character> alfabeto = new HashSet<>(afnd.getAlfabeto());
+        for (Map.Entry<String, Map<Character, Set<String>>> entry : transiciones.entrySet()) {
+            indices.putIfAbsent(entry.getKey(), indices.size());
+            for (Map.Entry<Character, Set<String>> t : entry.getValue().entrySet()) {
+                for (String destino : t.getValue()) {
+                    indices.putIfAbsent(destino, indices.size());
+                }
+                alfabeto.add(t.getKey());
+            }
+        }
+        alfabeto.remove(null);
+
+        final int n = indices.size();
+        nombres = new String[n];
+        for (Map.Entry<String, Integer> e : indices.entrySet()) {
+            nombres[e.getValue()] = e.getKey();
+        }
+        palabras = Math.max(1, (n + 63) >>> 6);
+
+        // Columnas densas ordenadas por símbolo
+        simbolos = new char[alfabeto.size()];
+        int k = 0;
+        for (Character c : alfabeto) {
+            simbolos[k++] = c;
+        }
+        Arrays.sort(simbolos);
+        if (simbolos.length == 0) {
+            simboloMinimo = 0;
+            columnas = new int[0];
+        } else {
+            simboloMinimo = simbolos[0];
+            columnas = new int[simbolos[simbolos.length - 1] - simboloMinimo + 1];
+            Arrays.fill(columnas, -1);
+            for (int i = 0; i < simbolos.length; i++) {
+                columnas[simbolos[i] - simboloMinimo] = i;
+            }
+        }
+
+        // Transiciones como listas de enteros
+        int[][] epsilon = new int[n][];
+        int[][][] directas = new int[simbolos.length][n][];
+        for (Map.Entry<String, Map<Character, Set<String>>> entry : transiciones.entrySet()) {
+            int origen = indices.get(entry.getKey());
+            for (Map.Entry<Character, Set<String>> t : entry.getValue().entrySet()) {
+                int[] destinos = new int[t.getValue().size()];
+                int i = 0;
+                for (String d : t.getValue()) {
+                    destinos[i++] = indices.get(d);
+                }
+                if (t.getKey() == null) {
+                    epsilon[origen] = destinos;
+                } else {
+                    directas[columna(t.getKey())][origen] = destinos;
+                }
+            }
+        }
+
+        // ε-clausura de cada estado, una sola vez
+        clausuras = new long[n][];
+        int[] pila = new int[n];
+        for (int q = 0; q < n; q++) {
+            long[] cierre = new long[palabras];
+            cierre[q >>> 6] |= 1L << q;
+            int tope = 0;
+            pila[tope++] = q;
+            while (tope > 0) {
+                int actual = pila[--tope];
+                if (epsilon[actual] == null) {
+                    continue;
+                }
+                for (int destino : epsilon[actual]) {
+                    long bit = 1L << destino;
+                    if ((cierre[destino >>> 6] & bit) == 0) {
+                        cierre[destino >>> 6] |= bit;
+                        pila[tope++] = destino;
+                    }
+                }
+            }
+            clausuras[q] = cierre;
+        }
+
+        // Máscaras de sucesores por símbolo; con un único destino se comparte su clausura
+        mascaras = new long[simbolos.length * n][];
+        int[] salidas = new int[n];
+        for (int col = 0; col < simbolos.length; col++) {
+            for (int q = 0; q < n; q++) {
+                int[] destinos = directas[col][q];
+                if (destinos == null || destinos.length == 0) {
+                    continue;
+                }
+                long[] mascara;
+                if (destinos.length == 1) {
+                    mascara = clausuras[destinos[0]];
+                } else {
+                    mascara = new long[palabras];
+                    for (int d : destinos) {
+                        or(mascara, clausuras[d]);
+                    }
+                }
+                mascaras[col * n + q] = mascara;
+                salidas[q]++;
+            }
+        }
+        columnasSalida = new int[n][];
+        for (int q = 0; q < n; q++) {
+            columnasSalida[q] = new int[salidas[q]];
+            int i = 0;
+            for (int col = 0; col < simbolos.length; col++) {
+                if (mascaras[col * n + q] != null) {
+                    columnasSalida[q][i++] = col;
+                }
+            }
+        }
+
+        inicial = afnd.getEstadoInicial() == null
+                ? new long[palabras]
+                : clausuras[indices.get(afnd.getEstadoInicial())].clone();
+
+        finales = new long[palabras];
+        for (String f : afnd.getEstadosFinales()) {
+            Integer i = indices.get(f);
+            if (i != null) {
+                finales[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Simula el AFND sobre la cadena con dos conjuntos de trabajo reutilizados.
+     */
+    public boolean acepta(CharSequence cadena) {
+        long[] actual = nuevoConjunto();
+        long[] siguiente = nuevoConjunto();
+        copiarInicial(actual);
+        final int n = cadena.length();
+        for (int i = 0; i < n; i++) {
+            if (!mover(actual, cadena.charAt(i), siguiente)) {
+                return false;
+            }
+            long[] tmp = actual;
+            actual = siguiente;
+            siguiente = tmp;
+        }
+        return contieneFinal(actual);
+    }
+
+    /**
+     * destino = ε-clausura(δ(actual, simbolo)).
+     * @return false si el conjunto resultante es vacío (rechazo definitivo)
+     */
+    public boolean mover(long[] actual, char simbolo, long[] destino) {
+        int col = columna(simbolo);
+        if (col < 0) {
+            Arrays.fill(destino, 0L);
+            return false;
+        }
+        return moverPorColumna(actual, col, destino);
+    }
+
+    /**
+     * Igual que {@link #mover(long[], char, long[])} con la columna ya resuelta.
+     */
+    public boolean moverPorColumna(long[] actual, int columna, long[] destino) {
+        Arrays.fill(destino, 0L);
+        final int base = columna * nombres.length;
+        boolean hayAlguno = false;
+        for (int w = 0; w < palabras; w++) {
+            long bits = actual[w];
+            while (bits != 0) {
+                int q = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                long[] mascara = mascaras[base + q];
+                if (mascara != null) {
+                    for (int j = 0; j < palabras; j++) {
+                        destino[j] |= mascara[j];
+                    }
+                    hayAlguno = true;
+                }
+            }
+        }
+        return hayAlguno;
+    }
+
+    /**
+     * Indica si el conjunto contiene algún estado final.
+     */
+    public boolean contieneFinal(long[] conjunto) {
+        for (int w = 0; w < palabras; w++) {
+            if ((conjunto[w] & finales[w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Crea un conjunto vacío del tamaño adecuado.
+     */
+    public long[] nuevoConjunto() {
+        return new long[palabras];
+    }
+
+    /**
+     * Copia la ε-clausura del estado inicial en el conjunto destino.
+     */
+    public void copiarInicial(long[] destino) {
+        System.arraycopy(inicial, 0, destino, 0, palabras);
+    }
+
+    /**
+     * Columna densa del símbolo, o -1 si no es del alfabeto.
+     */
+    public int columna(char simbolo) {
+        int offset = simbolo - simboloMinimo;
+        if (offset < 0 || offset >= columnas.length) {
+            return -1;
+        }
+        return columnas[offset];
+    }
+
+    /**
+     * ε-clausura del estado q (no debe modificarse).
+     */
+    public long[] getClausura(int q) {
+        return clausuras[q];
+    }
+
+    /**
+     * ε-clausura(δ(q, a)) para la columna de a, o null si no hay transición
+     * (no debe modificarse).
+     */
+    public long[] getMascara(int columna, int q) {
+        return mascaras[columna * nombres.length + q];
+    }
+
+    /**
+     * Columnas en las que el estado q tiene transiciones (no debe modificarse).
+     */
+    public int[] getColumnasSalida(int q) {
+        return columnasSalida[q];
+    }
+
+    public boolean esFinal(int q) {
+        return (finales[q >>> 6] & (1L << q)) != 0;
+    }
+
+    public int getNumEstados() {
+        return nombres.length;
+    }
+
+    public int getNumPalabras() {
+        return palabras;
+    }
+
+    public int getNumSimbolos() {
+        return simbolos.length;
+    }
+
+    /**
+     * Símbolo asociado a una columna.
+     */
+    public char getSimbolo(int columna) {
+        return simbolos[columna];
+    }
+
+    /**
+     * Nombre original del estado con el índice dado.
+     */
+    public String getNombre(int q) {
+        return nombres[q];
+    }
+
+    private static void or(long[] destino, long[] origen) {
+        for (int i = 0; i < destino.length; i++) {
+            destino[i] |= origen[i];
+        }
+    }
+}
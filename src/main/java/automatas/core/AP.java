@@ -8,6 +8,21 @@ import java.util.*;
  */
 public class AP implements Automata {
 
+    /**
+     * Estrategia usada por {@link #acepta(String)}.
+     */
+    public enum ModoAceptacion {
+        /** Backtracking sobre todas las ramas (puede no terminar con ciclos ε). */
+        RETROCESO,
+        /** Saturación post* del grafo de configuraciones, tiempo polinomial. */
+        POLINOMIAL,
+        /** Búsqueda con lista de trabajo y configuraciones visitadas, sin recursión. */
+        ITERATIVO
+    }
+
+    /** Configuraciones que el modo ITERATIVO explora antes de rendirse. */
+    public static final long LIMITE_PASOS_POR_DEFECTO = 20_000_000L;
+
     private Set<String> estados;
     private Set<Character> alfabetoEntrada;
     private Set<Character> alfabetoPila;
@@ -15,6 +30,9 @@ public class AP implements Automata {
     private Set<String> estadosFinales;
     private char simboloInicialPila;
     private Map<TransicionKey, List<TransicionValor>> transiciones;
+    private ModoAceptacion modoAceptacion = ModoAceptacion.POLINOMIAL;
+    private long limitePasos = LIMITE_PASOS_POR_DEFECTO;
+    private volatile APCompilado compilado;
 
     public AP() {
         this.estados = new HashSet<>();
@@ -28,14 +46,17 @@ public class AP implements Automata {
     // Getters y Setters
     public void addEstado(String estado) {
         estados.add(estado);
+        compilado = null;
     }
 
     public void addSimboloEntrada(char simbolo) {
         alfabetoEntrada.add(simbolo);
+        compilado = null;
     }
 
     public void addSimboloPila(char simbolo) {
         alfabetoPila.add(simbolo);
+        compilado = null;
     }
 
     public void setEstadoInicial(String estado) {
@@ -53,6 +74,33 @@ public class AP implements Automata {
         addSimboloPila(simbolo);
     }
     
+    public char getSimboloInicialPila() {
+        return simboloInicialPila;
+    }
+
+    public void setModoAceptacion(ModoAceptacion modo) {
+        this.modoAceptacion = modo;
+    }
+
+    public ModoAceptacion getModoAceptacion() {
+        return modoAceptacion;
+    }
+
+    /**
+     * Máximo de configuraciones que explora el modo ITERATIVO; al superarlo,
+     * {@link #acepta(String)} lanza IllegalStateException.
+     */
+    public void setLimitePasos(long limitePasos) {
+        if (limitePasos <= 0) {
+            throw new IllegalArgumentException("El límite de pasos debe ser positivo");
+        }
+        this.limitePasos = limitePasos;
+    }
+
+    public long getLimitePasos() {
+        return limitePasos;
+    }
+    
     public Map<TransicionKey, List<TransicionValor>> getTransiciones() {
     return transiciones;
 }
@@ -68,6 +116,20 @@ public class AP implements Automata {
         TransicionValor valor = new TransicionValor(estadoSiguiente, cadenaReemplazo);
 
         transiciones.computeIfAbsent(key, k -> new ArrayList<>()).add(valor);
+        compilado = null;
+    }
+
+    /**
+     * Representación entera usada por los motores de aceptación; se rehace
+     * si el autómata cambió desde la última vez.
+     */
+    private APCompilado compilar() {
+        APCompilado c = compilado;
+        if (c == null) {
+            c = new APCompilado(this);
+            compilado = c;
+        }
+        return c;
     }
 
     /**
@@ -75,35 +137,42 @@ public class AP implements Automata {
      */
     @Override
     public boolean acepta(String cadena) {
-        Stack<Character> pila = new Stack<>();
-        pila.push(simboloInicialPila);
+        if (modoAceptacion == ModoAceptacion.POLINOMIAL) {
+            return AceptadorPolinomial.acepta(compilar(), cadena);
+        }
+        if (modoAceptacion == ModoAceptacion.ITERATIVO) {
+            return AceptadorIterativo.acepta(compilar(), cadena, limitePasos);
+        }
 
-        return aceptaRecursivo(estadoInicial, cadena, 0, pila);
+        APCompilado ap = compilar();
+        if (ap.estadoInicial < 0) {
+            return false;
+        }
+        PilaPersistente pila = PilaPersistente.VACIA.apilar(ap.simboloInicialPila);
+
+        return aceptaRecursivo(ap, ap.estadoInicial, cadena, 0, pila);
     }
 
-    private boolean aceptaRecursivo(String estado, String cadena, int pos, Stack<Character> pila) {
+    /**
+     * Backtracking sobre las ramas no deterministas. La pila es persistente:
+     * cada rama comparte la pila de su padre y solo crea nodos para los
+     * símbolos que apila.
+     */
+    private boolean aceptaRecursivo(APCompilado ap, int estado, String cadena, int pos,
+                                    PilaPersistente pila) {
         // Caso base: cadena procesada completamente
         if (pos == cadena.length()) {
             // Aceptación por estado final
-            if (estadosFinales.contains(estado)) {
+            if (ap.finales[estado]) {
                 return true;
             }
 
-            if (!pila.isEmpty()) {
-                char topePila = pila.peek();
-                TransicionKey keyEpsilon = new TransicionKey(estado, null, topePila);
-                List<TransicionValor> transEpsilon = transiciones.get(keyEpsilon);
+            if (!pila.esVacia()) {
+                APCompilado.Regla[] transEpsilon = ap.epsilon(estado, pila.getTope());
 
                 if (transEpsilon != null) {
-                    for (TransicionValor trans : transEpsilon) {
-                        Stack<Character> nuevaPila = (Stack<Character>) pila.clone();
-                        nuevaPila.pop();
-
-                        for (int i = trans.cadenaReemplazo.length() - 1; i >= 0; i--) {
-                            nuevaPila.push(trans.cadenaReemplazo.charAt(i));
-                        }
-
-                        if (aceptaRecursivo(trans.estadoSiguiente, cadena, pos, nuevaPila)) {
+                    for (APCompilado.Regla t : transEpsilon) {
+                        if (aceptaRecursivo(ap, t.destino, cadena, pos, pila.reemplazarTope(t.reemplazo))) {
                             return true;
                         }
                     }
@@ -112,46 +181,30 @@ public class AP implements Automata {
             return false;
         }
 
-        if (pila.isEmpty()) {
+        if (pila.esVacia()) {
             return false;
         }
 
-        char simboloActual = cadena.charAt(pos);
-        char topePila = pila.peek();
+        int topePila = pila.getTope();
 
         // Intentar transiciones consumiendo entrada
-        TransicionKey key = new TransicionKey(estado, simboloActual, topePila);
-        List<TransicionValor> trans = transiciones.get(key);
+        int columna = ap.columna(cadena.charAt(pos));
+        APCompilado.Regla[] trans = columna < 0 ? null : ap.consumo(estado, topePila, columna);
 
         if (trans != null) {
-            for (TransicionValor t : trans) {
-                Stack<Character> nuevaPila = (Stack<Character>) pila.clone();
-                nuevaPila.pop();
-
-                for (int i = t.cadenaReemplazo.length() - 1; i >= 0; i--) {
-                    nuevaPila.push(t.cadenaReemplazo.charAt(i));
-                }
-
-                if (aceptaRecursivo(t.estadoSiguiente, cadena, pos + 1, nuevaPila)) {
+            for (APCompilado.Regla t : trans) {
+                if (aceptaRecursivo(ap, t.destino, cadena, pos + 1, pila.reemplazarTope(t.reemplazo))) {
                     return true;
                 }
             }
         }
 
         // Intentar transiciones epsilon
-        TransicionKey keyEpsilon = new TransicionKey(estado, null, topePila);
-        List<TransicionValor> transEpsilon = transiciones.get(keyEpsilon);
+        APCompilado.Regla[] transEpsilon = ap.epsilon(estado, topePila);
 
         if (transEpsilon != null) {
-            for (TransicionValor t : transEpsilon) {
-                Stack<Character> nuevaPila = (Stack<Character>) pila.clone();
-                nuevaPila.pop();
-
-                for (int i = t.cadenaReemplazo.length() - 1; i >= 0; i--) {
-                    nuevaPila.push(t.cadenaReemplazo.charAt(i));
-                }
-
-                if (aceptaRecursivo(t.estadoSiguiente, cadena, pos, nuevaPila)) {
+            for (APCompilado.Regla t : transEpsilon) {
+                if (aceptaRecursivo(ap, t.destino, cadena, pos, pila.reemplazarTope(t.reemplazo))) {
                     return true;
                 }
             }
@@ -210,7 +263,7 @@ public class AP implements Automata {
     }
 
     // Clases internas para representar transiciones
-    private static class TransicionKey {
+    static class TransicionKey {
         String estado;
         Character simboloEntrada; // null representa epsilon
         char simboloPila;
@@ -237,7 +290,7 @@ public class AP implements Automata {
         }
     }
 
-    private static class TransicionValor {
+    static class TransicionValor {
         String estadoSiguiente;
         String cadenaReemplazo;
 
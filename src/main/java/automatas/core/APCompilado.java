@@ -0,0 +1,190 @@
+package automatas.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representación entera de un {@link AP} compartida por sus motores de
+ * aceptación: estados y símbolos de pila numerados, y reglas agrupadas por
+ * (estado, tope de pila) y por símbolo de entrada o ε.
+ */
+final class APCompilado {
+
+    /**
+     * Regla δ(q, a, X) = (destino, reemplazo). {@code reemplazo[0]} es el
+     * nuevo tope de la pila.
+     */
+    static final class Regla {
+        final int id;
+        final int destino;
+        final int[] reemplazo;
+
+        Regla(int id, int destino, int[] reemplazo) {
+            this.id = id;
+            this.destino = destino;
+            this.reemplazo = reemplazo;
+        }
+    }
+
+    final int numEstados;
+    final int numPila;
+    final int numReglas;
+    final int estadoInicial;
+    final int simboloInicialPila;
+    final boolean[] finales;
+
+    private final String[] nombres;
+    private final char[] simbolosPila;
+
+    // Símbolo de entrada -> columna: columnas[c - simboloMinimo], -1 si no hay reglas con él
+    private final char simboloMinimo;
+    private final int[] columnas;
+    private final int numSimbolos;
+
+    // epsilon[q * numPila + X], consumo[(q * numPila + X) * numSimbolos + col]; null si no hay reglas
+    private final Regla[][] epsilon;
+    private final Regla[][] consumo;
+
+    APCompilado(AP ap) {
+        Map<AP.TransicionKey, List<AP.TransicionValor>> transiciones = ap.getTransiciones();
+
+        Map<String, Integer> estados = new HashMap<>();
+        Map<Character, Integer> pila = new HashMap<>();
+        List<Character> entrada = new ArrayList<>();
+
+        if (ap.getEstadoInicial() != null) {
+            estados.putIfAbsent(ap.getEstadoInicial(), estados.size());
+        }
+        for (String e : ap.getEstados()) {
+            estados.putIfAbsent(e, estados.size());
+        }
+        pila.putIfAbsent(ap.getSimboloInicialPila(), pila.size());
+        for (Map.Entry<AP.TransicionKey, List<AP.TransicionValor>> entry : transiciones.entrySet()) {
+            AP.TransicionKey key = entry.getKey();
+            estados.putIfAbsent(key.estado, estados.size());
+            pila.putIfAbsent(key.simboloPila, pila.size());
+            if (key.simboloEntrada != null && !entrada.contains(key.simboloEntrada)) {
+                entrada.add(key.simboloEntrada);
+            }
+            for (AP.TransicionValor valor : entry.getValue()) {
+                estados.putIfAbsent(valor.estadoSiguiente, estados.size());
+                for (char c : valor.cadenaReemplazo.toCharArray()) {
+                    pila.putIfAbsent(c, pila.size());
+                }
+            }
+        }
+
+        numEstados = estados.size();
+        numPila = pila.size();
+        nombres = new String[numEstados];
+        for (Map.Entry<String, Integer> e : estados.entrySet()) {
+            nombres[e.getValue()] = e.getKey();
+        }
+        simbolosPila = new char[numPila];
+        for (Map.Entry<Character, Integer> e : pila.entrySet()) {
+            simbolosPila[e.getValue()] = e.getKey();
+        }
+
+        char[] simbolos = new char[entrada.size()];
+        for (int i = 0; i < simbolos.length; i++) {
+            simbolos[i] = entrada.get(i);
+        }
+        Arrays.sort(simbolos);
+        numSimbolos = simbolos.length;
+        if (numSimbolos == 0) {
+            simboloMinimo = 0;
+            columnas = new int[0];
+        } else {
+            simboloMinimo = simbolos[0];
+            columnas = new int[simbolos[numSimbolos - 1] - simboloMinimo + 1];
+            Arrays.fill(columnas, -1);
+            for (int i = 0; i < numSimbolos; i++) {
+                columnas[simbolos[i] - simboloMinimo] = i;
+            }
+        }
+
+        // Agrupar reglas
+        List<List<Regla>> eps = new ArrayList<>();
+        List<List<Regla>> con = new ArrayList<>();
+        for (int i = 0; i < numEstados * numPila; i++) eps.add(null);
+        for (int i = 0; i < numEstados * numPila * numSimbolos; i++) con.add(null);
+
+        int id = 0;
+        for (Map.Entry<AP.TransicionKey, List<AP.TransicionValor>> entry : transiciones.entrySet()) {
+            AP.TransicionKey key = entry.getKey();
+            int base = estados.get(key.estado) * numPila + pila.get(key.simboloPila);
+            int indice = key.simboloEntrada == null
+                    ? base
+                    : base * numSimbolos + columna(key.simboloEntrada);
+            List<List<Regla>> destino = key.simboloEntrada == null ? eps : con;
+            if (destino.get(indice) == null) {
+                destino.set(indice, new ArrayList<>());
+            }
+            for (AP.TransicionValor valor : entry.getValue()) {
+                int[] reemplazo = new int[valor.cadenaReemplazo.length()];
+                for (int i = 0; i < reemplazo.length; i++) {
+                    reemplazo[i] = pila.get(valor.cadenaReemplazo.charAt(i));
+                }
+                destino.get(indice).add(new Regla(id++, estados.get(valor.estadoSiguiente), reemplazo));
+            }
+        }
+        numReglas = id;
+        epsilon = aArreglo(eps);
+        consumo = aArreglo(con);
+
+        finales = new boolean[numEstados];
+        for (String f : ap.getEstadosFinales()) {
+            Integer i = estados.get(f);
+            if (i != null) {
+                finales[i] = true;
+            }
+        }
+        estadoInicial = ap.getEstadoInicial() == null ? -1 : estados.get(ap.getEstadoInicial());
+        simboloInicialPila = pila.get(ap.getSimboloInicialPila());
+    }
+
+    private static Regla[][] aArreglo(List<List<Regla>> listas) {
+        Regla[][] resultado = new Regla[listas.size()][];
+        for (int i = 0; i < resultado.length; i++) {
+            List<Regla> l = listas.get(i);
+            resultado[i] = l == null ? null : l.toArray(new Regla[0]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Columna del símbolo de entrada, o -1 si ninguna regla lo consume.
+     */
+    int columna(char simbolo) {
+        int offset = simbolo - simboloMinimo;
+        if (offset < 0 || offset >= columnas.length) {
+            return -1;
+        }
+        return columnas[offset];
+    }
+
+    /**
+     * Reglas ε desde (estado, tope), o null.
+     */
+    Regla[] epsilon(int estado, int tope) {
+        return epsilon[estado * numPila + tope];
+    }
+
+    /**
+     * Reglas que consumen el símbolo de la columna desde (estado, tope), o null.
+     */
+    Regla[] consumo(int estado, int tope, int columna) {
+        return consumo[(estado * numPila + tope) * numSimbolos + columna];
+    }
+
+    String getNombre(int estado) {
+        return nombres[estado];
+    }
+
+    char getSimboloPila(int simbolo) {
+        return simbolosPila[simbolo];
+    }
+}
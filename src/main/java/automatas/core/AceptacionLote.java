@@ -0,0 +1,94 @@
+package automatas.core;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluación en paralelo de una lista de cadenas sobre el pool común de
+ * ForkJoin. La lista se parte por la mitad hasta bloques de
+ * {@link #BLOQUE} cadenas, y cada bloque escribe sus resultados en palabras
+ * propias del arreglo de bits, así que no hay sincronización entre tareas.
+ * Cada bloque toma un solo reconocedor y lo usa para todas sus cadenas: la
+ * tabla compilada del AFD, que es inmutable y se comparte, o un AFD perezoso
+ * del pool del AFND, que queda en exclusiva para el bloque y conserva los
+ * estados calculados de una cadena a la siguiente.
+ */
+final class AceptacionLote extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    // Múltiplo de 64 para que cada bloque escriba palabras distintas
+    static final int BLOQUE = 1024;
+
+    // Las tareas nunca se serializan
+    private final transient Automata automata;
+    private final transient List<String> cadenas;
+    private final long[] bits;
+    private final int desde;
+    private final int hasta;
+
+    private AceptacionLote(Automata automata, List<String> cadenas,
+                           long[] bits, int desde, int hasta) {
+        this.automata = automata;
+        this.cadenas = cadenas;
+        this.bits = bits;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    static BitSet evaluar(Automata automata, List<String> cadenas) {
+        long[] bits = new long[(cadenas.size() + 63) >>> 6];
+        AceptacionLote tarea = new AceptacionLote(automata, cadenas, bits, 0, cadenas.size());
+        if (cadenas.size() <= BLOQUE) {
+            tarea.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(tarea);
+        }
+        return BitSet.valueOf(bits);
+    }
+
+    @Override
+    protected void compute() {
+        if (hasta - desde <= BLOQUE) {
+            evaluarBloque();
+            return;
+        }
+        // Punto medio alineado a bloque
+        int medio = desde + ((hasta - desde) / 2 / BLOQUE) * BLOQUE;
+        if (medio == desde) {
+            medio += BLOQUE;
+        }
+        invokeAll(new AceptacionLote(automata, cadenas, bits, desde, medio),
+                new AceptacionLote(automata, cadenas, bits, medio, hasta));
+    }
+
+    private void evaluarBloque() {
+        if (automata instanceof AFD afd) {
+            AFDCompilado compilado = afd.compilar();
+            for (int i = desde; i < hasta; i++) {
+                marcar(i, compilado.acepta(cadenas.get(i)));
+            }
+        } else if (automata instanceof AFND afnd) {
+            AFDPerezoso perezoso = afnd.tomarPerezoso();
+            try {
+                for (int i = desde; i < hasta; i++) {
+                    marcar(i, perezoso.acepta(cadenas.get(i)));
+                }
+            } finally {
+                afnd.devolverPerezoso(perezoso);
+            }
+        } else {
+            for (int i = desde; i < hasta; i++) {
+                marcar(i, automata.acepta(cadenas.get(i)));
+            }
+        }
+    }
+
+    private void marcar(int i, boolean aceptada) {
+        if (aceptada) {
+            bits[i >>> 6] |= 1L << i;
+        }
+    }
+}
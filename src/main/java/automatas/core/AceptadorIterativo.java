@@ -0,0 +1,257 @@
+package automatas.core;
+
+import java.util.Arrays;
+
+/**
+ * Aceptación de un {@link AP} con búsqueda en profundidad sobre una lista de
+ * trabajo explícita, sin recursión: el uso de la pila de Java es constante sin
+ * importar el largo de la entrada.
+ *
+ * Las pilas del autómata se representan con nodos enlazados internados
+ * (hash-consing): dos pilas con el mismo contenido tienen el mismo número, lo
+ * que permite guardar las configuraciones (estado, posición, pila) ya visitadas
+ * y no explorarlas dos veces. Como con ciclos ε que apilan el número de
+ * configuraciones alcanzables puede ser infinito, la búsqueda se corta con un
+ * límite de pasos.
+ */
+final class AceptadorIterativo {
+
+    // Nodo 0: pila vacía
+    private static final int VACIA = 0;
+
+    private final APCompilado ap;
+    private final CharSequence cadena;
+    private final long limitePasos;
+
+    // Nodos de pila: tope y resto de cada pila internada
+    private int[] topes = new int[64];
+    private int[] restos = new int[64];
+    private int numPilas = 1;
+    private final TablaLargos internadas = new TablaLargos();
+
+    private final ConjuntoPares visitadas = new ConjuntoPares();
+
+    // Lista de trabajo de configuraciones (estado, posición, pila)
+    private int[] pendientes = new int[3 * 64];
+    private int numPendientes;
+
+    private AceptadorIterativo(APCompilado ap, CharSequence cadena, long limitePasos) {
+        this.ap = ap;
+        this.cadena = cadena;
+        this.limitePasos = limitePasos;
+    }
+
+    /**
+     * @throws IllegalStateException si se exploran más de {@code limitePasos}
+     *         configuraciones sin llegar a una decisión
+     */
+    static boolean acepta(APCompilado ap, CharSequence cadena, long limitePasos) {
+        if (ap.estadoInicial < 0) {
+            return false;
+        }
+        return new AceptadorIterativo(ap, cadena, limitePasos).buscar();
+    }
+
+    private boolean buscar() {
+        final int n = cadena.length();
+        descubrir(ap.estadoInicial, 0, apilar(VACIA, ap.simboloInicialPila));
+
+        long pasos = 0;
+        while (numPendientes > 0) {
+            if (++pasos > limitePasos) {
+                throw new IllegalStateException("Se superó el límite de " + limitePasos
+                        + " pasos al evaluar la cadena (¿ciclos ε que apilan símbolos?)");
+            }
+            numPendientes--;
+            int estado = pendientes[3 * numPendientes];
+            int pos = pendientes[3 * numPendientes + 1];
+            int pila = pendientes[3 * numPendientes + 2];
+
+            if (pos == n && ap.finales[estado]) {
+                return true;
+            }
+            if (pila == VACIA) {
+                continue;
+            }
+
+            int tope = topes[pila];
+            // Se apilan en orden inverso para explorar igual que el backtracking:
+            // primero las reglas que consumen entrada, luego las ε
+            APCompilado.Regla[] transEpsilon = ap.epsilon(estado, tope);
+            if (transEpsilon != null) {
+                for (int i = transEpsilon.length - 1; i >= 0; i--) {
+                    APCompilado.Regla t = transEpsilon[i];
+                    descubrir(t.destino, pos, reemplazarTope(pila, t.reemplazo));
+                }
+            }
+            if (pos < n) {
+                int columna = ap.columna(cadena.charAt(pos));
+                APCompilado.Regla[] trans = columna < 0 ? null : ap.consumo(estado, tope, columna);
+                if (trans != null) {
+                    for (int i = trans.length - 1; i >= 0; i--) {
+                        APCompilado.Regla t = trans[i];
+                        descubrir(t.destino, pos + 1, reemplazarTope(pila, t.reemplazo));
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void descubrir(int estado, int pos, int pila) {
+        long control = (long) pos * ap.numEstados + estado;
+        if (!visitadas.agregar(control, pila)) {
+            return;
+        }
+        if (3 * numPendientes + 3 > pendientes.length) {
+            pendientes = Arrays.copyOf(pendientes, pendientes.length * 2);
+        }
+        pendientes[3 * numPendientes] = estado;
+        pendientes[3 * numPendientes + 1] = pos;
+        pendientes[3 * numPendientes + 2] = pila;
+        numPendientes++;
+    }
+
+    private int reemplazarTope(int pila, int[] reemplazo) {
+        int k = reemplazo.length;
+        int base;
+        if (k > 0 && reemplazo[k - 1] == topes[pila]) {
+            base = pila;
+            k--;
+        } else {
+            base = restos[pila];
+        }
+        for (int i = k - 1; i >= 0; i--) {
+            base = apilar(base, reemplazo[i]);
+        }
+        return base;
+    }
+
+    /**
+     * Número de la pila {@code simbolo · resto}, creándola si no existía.
+     */
+    private int apilar(int resto, int simbolo) {
+        long clave = ((long) resto << 32) | (simbolo & 0xffffffffL);
+        int existente = internadas.obtener(clave);
+        if (existente >= 0) {
+            return existente;
+        }
+        if (numPilas == topes.length) {
+            topes = Arrays.copyOf(topes, numPilas * 2);
+            restos = Arrays.copyOf(restos, numPilas * 2);
+        }
+        int id = numPilas++;
+        topes[id] = simbolo;
+        restos[id] = resto;
+        internadas.poner(clave, id);
+        return id;
+    }
+
+    private static long mezclar(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    /**
+     * Mapa long -> int no negativo con direccionamiento abierto.
+     */
+    private static final class TablaLargos {
+        private long[] claves = new long[64];
+        private int[] valores = nuevosValores(64);
+        private int tam;
+
+        private static int[] nuevosValores(int capacidad) {
+            int[] v = new int[capacidad];
+            Arrays.fill(v, -1);
+            return v;
+        }
+
+        int obtener(long clave) {
+            int mascara = claves.length - 1;
+            int i = (int) mezclar(clave) & mascara;
+            while (valores[i] >= 0) {
+                if (claves[i] == clave) {
+                    return valores[i];
+                }
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+
+        void poner(long clave, int valor) {
+            if (2 * (tam + 1) > claves.length) {
+                long[] clavesAnteriores = claves;
+                int[] valoresAnteriores = valores;
+                claves = new long[clavesAnteriores.length * 2];
+                valores = nuevosValores(claves.length);
+                for (int j = 0; j < clavesAnteriores.length; j++) {
+                    if (valoresAnteriores[j] >= 0) {
+                        insertar(clavesAnteriores[j], valoresAnteriores[j]);
+                    }
+                }
+            }
+            insertar(clave, valor);
+            tam++;
+        }
+
+        private void insertar(long clave, int valor) {
+            int mascara = claves.length - 1;
+            int i = (int) mezclar(clave) & mascara;
+            while (valores[i] >= 0) {
+                i = (i + 1) & mascara;
+            }
+            claves[i] = clave;
+            valores[i] = valor;
+        }
+    }
+
+    /**
+     * Conjunto de pares (control, pila) con direccionamiento abierto.
+     */
+    private static final class ConjuntoPares {
+        private long[] controles = new long[64];
+        private int[] pilas = nuevasPilas(64);
+        private int tam;
+
+        private static int[] nuevasPilas(int capacidad) {
+            int[] p = new int[capacidad];
+            Arrays.fill(p, -1);
+            return p;
+        }
+
+        boolean agregar(long control, int pila) {
+            if (2 * (tam + 1) > controles.length) {
+                long[] controlesAnteriores = controles;
+                int[] pilasAnteriores = pilas;
+                controles = new long[controlesAnteriores.length * 2];
+                pilas = nuevasPilas(controles.length);
+                for (int j = 0; j < controlesAnteriores.length; j++) {
+                    if (pilasAnteriores[j] >= 0) {
+                        insertar(controlesAnteriores[j], pilasAnteriores[j]);
+                    }
+                }
+            }
+            if (!insertar(control, pila)) {
+                return false;
+            }
+            tam++;
+            return true;
+        }
+
+        private boolean insertar(long control, int pila) {
+            int mascara = controles.length - 1;
+            int i = (int) mezclar(control * 31 + pila) & mascara;
+            while (pilas[i] >= 0) {
+                if (controles[i] == control && pilas[i] == pila) {
+                    return false;
+                }
+                i = (i + 1) & mascara;
+            }
+            controles[i] = control;
+            pilas[i] = pila;
+            return true;
+        }
+    }
+}
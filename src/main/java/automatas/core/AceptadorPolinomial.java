@@ -0,0 +1,293 @@
+package automatas.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aceptación de un {@link AP} en tiempo polinomial mediante saturación post*.
+ *
+ * Las configuraciones (estado, posición, pila) se ven como un sistema de pila
+ * cuyos estados de control son los pares (estado, posición). El conjunto de
+ * configuraciones alcanzables desde (q0, 0, Z) es regular y se representa con
+ * un autómata finito (P-autómata) que se satura con el algoritmo post* de
+ * Schwoon. La cadena se acepta si algún estado de control (qf, n) con qf final
+ * llega a tener una transición, es decir, si alguna configuración con la
+ * entrada consumida y estado final es alcanzable.
+ *
+ * El costo es O(|P|² · |Δ|) con |P| = |Q| · (n + 1): polinomial incluso con
+ * ciclos ε que apilan símbolos, que hacen divergir al backtracking.
+ */
+final class AceptadorPolinomial {
+
+    private static final int EPSILON = -1;
+
+    private final APCompilado ap;
+    private final CharSequence cadena;
+    private final int n;
+    private final int numControl;
+    private final int estadoFinalPila;
+
+    // Estados del P-autómata: [0, numControl) control, luego el final y los auxiliares
+    private int numNodos;
+    private final Map<Long, Integer> medios = new HashMap<>();
+    private final Map<Long, Integer> eslabones = new HashMap<>();
+
+    // rel, indexado por símbolo de pila + 1 (0 = ε)
+    private final ConjuntoLargos[] rel;
+    // Transiciones salientes de cada nodo como pares (símbolo, destino)
+    private int[][] salidas;
+    private int[] numSalidas;
+    // Orígenes de transiciones ε que llegan a cada nodo
+    private int[][] entradasEpsilon;
+    private int[] numEntradasEpsilon;
+
+    // Lista de trabajo de tripletas (origen, símbolo, destino)
+    private int[] pendientes = new int[3 * 64];
+    private int numPendientes;
+
+    private AceptadorPolinomial(APCompilado ap, CharSequence cadena) {
+        this.ap = ap;
+        this.cadena = cadena;
+        this.n = cadena.length();
+        this.numControl = ap.numEstados * (n + 1);
+        this.estadoFinalPila = numControl;
+        this.numNodos = numControl + 1;
+        this.rel = new ConjuntoLargos[ap.numPila + 1];
+        for (int i = 0; i < rel.length; i++) {
+            rel[i] = new ConjuntoLargos();
+        }
+        int capacidad = numNodos + 16;
+        salidas = new int[capacidad][];
+        numSalidas = new int[capacidad];
+        entradasEpsilon = new int[capacidad][];
+        numEntradasEpsilon = new int[capacidad];
+    }
+
+    static boolean acepta(APCompilado ap, CharSequence cadena) {
+        if (ap.estadoInicial < 0) {
+            return false;
+        }
+        return new AceptadorPolinomial(ap, cadena).saturar();
+    }
+
+    private int control(int estado, int posicion) {
+        return posicion * ap.numEstados + estado;
+    }
+
+    private boolean saturar() {
+        agregarPendiente(control(ap.estadoInicial, 0), ap.simboloInicialPila, estadoFinalPila);
+
+        while (numPendientes > 0) {
+            numPendientes--;
+            int p = pendientes[3 * numPendientes];
+            int g = pendientes[3 * numPendientes + 1];
+            int q = pendientes[3 * numPendientes + 2];
+
+            if (!agregarRel(p, g, q)) {
+                continue;
+            }
+
+            int estado = p % ap.numEstados;
+            int posicion = p / ap.numEstados;
+            if (posicion == n && ap.finales[estado]) {
+                return true;
+            }
+
+            if (g == EPSILON) {
+                // (p, ε, q): p hereda todas las transiciones de q
+                int[] s = salidas[q];
+                for (int i = 0; i < numSalidas[q]; i += 2) {
+                    agregarPendiente(p, s[i], s[i + 1]);
+                }
+                continue;
+            }
+
+            APCompilado.Regla[] reglas = ap.epsilon(estado, g);
+            if (reglas != null) {
+                for (APCompilado.Regla r : reglas) {
+                    aplicar(p, r, control(r.destino, posicion), q);
+                }
+            }
+            if (posicion < n) {
+                int col = ap.columna(cadena.charAt(posicion));
+                if (col >= 0) {
+                    reglas = ap.consumo(estado, g, col);
+                    if (reglas != null) {
+                        for (APCompilado.Regla r : reglas) {
+                            aplicar(p, r, control(r.destino, posicion + 1), q);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Aplica la regla r a la transición (p, γ, q) del P-autómata, llegando al
+     * estado de control destino.
+     */
+    private void aplicar(int p, APCompilado.Regla r, int destino, int q) {
+        int[] w = r.reemplazo;
+        int k = w.length;
+        if (k == 0) {
+            agregarPendiente(destino, EPSILON, q);
+            return;
+        }
+        if (k == 1) {
+            agregarPendiente(destino, w[0], q);
+            return;
+        }
+
+        // Apilar dos o más símbolos: destino --w0--> medio --w1--> ... --w(k-1)--> q
+        int medio = medio(destino, w[0]);
+        agregarPendiente(destino, w[0], medio);
+        if (k == 2) {
+            agregarDirecto(medio, w[1], q);
+            return;
+        }
+        long clave = (long) p * ap.numReglas + r.id;
+        Integer primero = eslabones.get(clave);
+        if (primero == null) {
+            // Cadena fija de nodos para los símbolos intermedios de esta regla
+            primero = numNodos;
+            for (int j = 0; j < k - 2; j++) {
+                nuevoNodo();
+            }
+            eslabones.put(clave, primero);
+            agregarDirecto(medio, w[1], primero);
+            for (int j = 0; j < k - 3; j++) {
+                agregarDirecto(primero + j, w[j + 2], primero + j + 1);
+            }
+        }
+        agregarDirecto(primero + k - 3, w[k - 1], q);
+    }
+
+    private int medio(int control, int simbolo) {
+        long clave = (long) control * ap.numPila + simbolo;
+        Integer m = medios.get(clave);
+        if (m == null) {
+            m = nuevoNodo();
+            medios.put(clave, m);
+        }
+        return m;
+    }
+
+    /**
+     * Agrega a rel una transición desde un nodo que no es de control y la
+     * propaga a los estados de control que llegan a él por ε.
+     */
+    private void agregarDirecto(int origen, int simbolo, int destino) {
+        if (!agregarRel(origen, simbolo, destino)) {
+            return;
+        }
+        int[] e = entradasEpsilon[origen];
+        for (int i = 0; i < numEntradasEpsilon[origen]; i++) {
+            agregarPendiente(e[i], simbolo, destino);
+        }
+    }
+
+    private boolean agregarRel(int origen, int simbolo, int destino) {
+        long clave = ((long) origen << 32) | (destino & 0xffffffffL);
+        if (!rel[simbolo + 1].agregar(clave)) {
+            return false;
+        }
+        if (simbolo == EPSILON) {
+            entradasEpsilon[destino] = anexar(entradasEpsilon[destino], numEntradasEpsilon[destino], origen);
+            numEntradasEpsilon[destino]++;
+        }
+        if (origen >= numControl) {
+            // Solo se consultan las salidas de nodos destino, que nunca son de control
+            salidas[origen] = anexar(salidas[origen], numSalidas[origen], simbolo);
+            numSalidas[origen]++;
+            salidas[origen] = anexar(salidas[origen], numSalidas[origen], destino);
+            numSalidas[origen]++;
+        }
+        return true;
+    }
+
+    private void agregarPendiente(int origen, int simbolo, int destino) {
+        if (3 * numPendientes + 3 > pendientes.length) {
+            pendientes = Arrays.copyOf(pendientes, pendientes.length * 2);
+        }
+        pendientes[3 * numPendientes] = origen;
+        pendientes[3 * numPendientes + 1] = simbolo;
+        pendientes[3 * numPendientes + 2] = destino;
+        numPendientes++;
+    }
+
+    private int nuevoNodo() {
+        if (numNodos == salidas.length) {
+            int capacidad = salidas.length * 2;
+            salidas = Arrays.copyOf(salidas, capacidad);
+            numSalidas = Arrays.copyOf(numSalidas, capacidad);
+            entradasEpsilon = Arrays.copyOf(entradasEpsilon, capacidad);
+            numEntradasEpsilon = Arrays.copyOf(numEntradasEpsilon, capacidad);
+        }
+        return numNodos++;
+    }
+
+    private static int[] anexar(int[] arreglo, int tam, int valor) {
+        if (arreglo == null) {
+            arreglo = new int[4];
+        } else if (tam == arreglo.length) {
+            arreglo = Arrays.copyOf(arreglo, tam * 2);
+        }
+        arreglo[tam] = valor;
+        return arreglo;
+    }
+
+    /**
+     * Conjunto de long con direccionamiento abierto (sin boxing).
+     */
+    private static final class ConjuntoLargos {
+        private static final long VACIO = -1L;
+
+        private long[] tabla = nuevaTabla(16);
+        private int tam;
+
+        private static long[] nuevaTabla(int capacidad) {
+            long[] t = new long[capacidad];
+            Arrays.fill(t, VACIO);
+            return t;
+        }
+
+        boolean agregar(long clave) {
+            if (2 * (tam + 1) > tabla.length) {
+                long[] anterior = tabla;
+                tabla = nuevaTabla(anterior.length * 2);
+                for (long c : anterior) {
+                    if (c != VACIO) {
+                        insertar(c);
+                    }
+                }
+            }
+            if (!insertar(clave)) {
+                return false;
+            }
+            tam++;
+            return true;
+        }
+
+        private boolean insertar(long clave) {
+            int mascara = tabla.length - 1;
+            int i = (int) mezclar(clave) & mascara;
+            while (tabla[i] != VACIO) {
+                if (tabla[i] == clave) {
+                    return false;
+                }
+                i = (i + 1) & mascara;
+            }
+            tabla[i] = clave;
+            return true;
+        }
+
+        private static long mezclar(long x) {
+            x ^= x >>> 33;
+            x *= 0xff51afd7ed558ccdL;
+            x ^= x >>> 33;
+            return x;
+        }
+    }
+}
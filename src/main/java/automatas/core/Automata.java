@@ -4,7 +4,13 @@
  */
 package automatas.core;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  *
@@ -19,6 +25,42 @@ public interface Automata {
      */
     boolean acepta(String cadena);
 
+    /**
+     * Inicia una ejecución incremental para entregar la entrada por partes.
+     * Por defecto acumula lo recibido y evalúa con {@link #acepta(String)} en
+     * cada consulta; los autómatas finitos la redefinen para procesar cada
+     * carácter al recibirlo sin guardar la entrada.
+     */
+    default Ejecucion iniciarEjecucion() {
+        return new EjecucionAcumulada(this);
+    }
+
+    /**
+     * Evalúa todo el contenido del lector sin materializarlo como String
+     * cuando el autómata procesa la entrada de forma incremental.
+     */
+    default boolean acepta(Reader lector) throws IOException {
+        Ejecucion ejecucion = iniciarEjecucion();
+        ejecucion.alimentar(lector);
+        return ejecucion.acepta();
+    }
+
+    /**
+     * Evalúa todas las cadenas en paralelo (pool común de ForkJoin).
+     * @return bit i encendido si y solo si se acepta la cadena i
+     */
+    default BitSet aceptaTodas(List<String> cadenas) {
+        return AceptacionLote.evaluar(this, cadenas);
+    }
+
+    /**
+     * Igual que {@link #aceptaTodas(List)}; el flujo se consume antes de evaluar
+     * para conservar el orden de los índices.
+     */
+    default BitSet aceptaTodas(Stream<String> cadenas) {
+        return aceptaTodas(cadenas.collect(Collectors.toList()));
+    }
+
     /**
      * Devuelve el conjunto de estados del autómata.
      */
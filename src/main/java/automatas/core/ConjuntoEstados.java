@@ -0,0 +1,69 @@
+package automatas.core;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto inmutable de estados enteros representado como bits, con el hash
+ * precalculado. Se usa como clave de los estados de un AFD construido por
+ * subconjuntos sobre un {@link AFNDCompilado}.
+ */
+public final class ConjuntoEstados {
+
+    private final long[] bits;
+    private final int hash;
+
+    /**
+     * Crea el conjunto a partir de las palabras dadas. El arreglo pasa a ser
+     * propiedad del conjunto y no debe modificarse después.
+     */
+    public ConjuntoEstados(long[] bits) {
+        this.bits = bits;
+        this.hash = Arrays.hashCode(bits);
+    }
+
+    /**
+     * Palabras del conjunto (no deben modificarse).
+     */
+    public long[] getBits() {
+        return bits;
+    }
+
+    public boolean contiene(int estado) {
+        return (bits[estado >>> 6] & (1L << estado)) != 0;
+    }
+
+    public int cardinalidad() {
+        int total = 0;
+        for (long palabra : bits) {
+            total += Long.bitCount(palabra);
+        }
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConjuntoEstados)) return false;
+        ConjuntoEstados that = (ConjuntoEstados) o;
+        return hash == that.hash && Arrays.equals(bits, that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int w = 0; w < bits.length; w++) {
+            long palabra = bits[w];
+            while (palabra != 0) {
+                if (sb.length() > 1) sb.append(", ");
+                sb.append((w << 6) + Long.numberOfTrailingZeros(palabra));
+                palabra &= palabra - 1;
+            }
+        }
+        return sb.append("}").toString();
+    }
+}
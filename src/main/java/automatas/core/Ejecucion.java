@@ -0,0 +1,91 @@
+package automatas.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Ejecución incremental de un autómata: la entrada se entrega por partes y
+ * en cualquier momento se puede consultar si lo leído hasta ahora se acepta.
+ * Se obtiene con {@link Automata#iniciarEjecucion()}.
+ *
+ * No es segura para hilos.
+ */
+public interface Ejecucion {
+
+    /** Tamaño del buffer usado al leer de un {@link Reader}. */
+    int TAMANO_BUFFER = 8192;
+
+    /**
+     * Procesa {@code longitud} caracteres de {@code datos} desde {@code desde}.
+     */
+    void alimentar(char[] datos, int desde, int longitud);
+
+    /**
+     * Procesa todos los caracteres de la secuencia.
+     */
+    void alimentar(CharSequence datos);
+
+    default void alimentar(char[] datos) {
+        alimentar(datos, 0, datos.length);
+    }
+
+    /**
+     * Procesa los caracteres restantes del buffer y avanza su posición.
+     */
+    default void alimentar(CharBuffer datos) {
+        if (datos.hasArray()) {
+            alimentar(datos.array(), datos.arrayOffset() + datos.position(), datos.remaining());
+        } else {
+            alimentar((CharSequence) datos);
+        }
+        datos.position(datos.limit());
+    }
+
+    /**
+     * Lee el lector hasta el final procesando la entrada por bloques; el
+     * lector no se cierra. Se corta antes si la ejecución muere.
+     * @return caracteres leídos
+     */
+    default long alimentar(Reader lector) throws IOException {
+        char[] buffer = new char[TAMANO_BUFFER];
+        long total = 0;
+        int leidos;
+        while (!estaMuerta() && (leidos = lector.read(buffer)) != -1) {
+            alimentar(buffer, 0, leidos);
+            total += leidos;
+        }
+        return total;
+    }
+
+    /**
+     * Igual que {@link #alimentar(Reader)} decodificando el flujo con el charset dado.
+     */
+    default long alimentar(InputStream entrada, Charset charset) throws IOException {
+        return alimentar(new InputStreamReader(entrada, charset));
+    }
+
+    /**
+     * Indica si la entrada procesada hasta ahora es aceptada.
+     */
+    boolean acepta();
+
+    /**
+     * Indica si ninguna continuación de la entrada puede ser aceptada; a
+     * partir de ahí alimentar más caracteres no cambia el resultado.
+     */
+    boolean estaMuerta();
+
+    /**
+     * Caracteres procesados desde el inicio o el último reinicio.
+     */
+    long getPosicion();
+
+    /**
+     * Vuelve al estado inicial, como si no se hubiera leído nada.
+     */
+    void reiniciar();
+}
@@ -0,0 +1,65 @@
+package automatas.core;
+
+/**
+ * Ejecución incremental sobre la tabla de un {@link AFDCompilado}: el estado
+ * es un solo entero y alimentar no asigna memoria. Se deja de leer al caer
+ * en un estado sin transición o desde el que no se alcanza ningún final.
+ */
+final class EjecucionAFD implements Ejecucion {
+
+    private final AFDCompilado afd;
+    private int estado;
+    private long posicion;
+
+    EjecucionAFD(AFDCompilado afd) {
+        this.afd = afd;
+        reiniciar();
+    }
+
+    @Override
+    public void alimentar(char[] datos, int desde, int longitud) {
+        int e = estado;
+        final int fin = desde + longitud;
+        for (int i = desde; i < fin && vivo(e); i++) {
+            e = afd.siguiente(e, datos[i]);
+        }
+        estado = e;
+        posicion += longitud;
+    }
+
+    @Override
+    public void alimentar(CharSequence datos) {
+        int e = estado;
+        final int n = datos.length();
+        for (int i = 0; i < n && vivo(e); i++) {
+            e = afd.siguiente(e, datos.charAt(i));
+        }
+        estado = e;
+        posicion += n;
+    }
+
+    @Override
+    public boolean acepta() {
+        return estado != AFDCompilado.SIN_TRANSICION && afd.esFinal(estado);
+    }
+
+    @Override
+    public boolean estaMuerta() {
+        return !vivo(estado);
+    }
+
+    private boolean vivo(int e) {
+        return e != AFDCompilado.SIN_TRANSICION && afd.esVivo(e);
+    }
+
+    @Override
+    public long getPosicion() {
+        return posicion;
+    }
+
+    @Override
+    public void reiniciar() {
+        estado = afd.getEstadoInicial();
+        posicion = 0;
+    }
+}
@@ -0,0 +1,75 @@
+package automatas.core;
+
+/**
+ * Ejecución incremental de un {@link AFNDCompilado} con la simulación por
+ * bits; los dos conjuntos de trabajo se crean una vez y se alternan.
+ */
+final class EjecucionAFND implements Ejecucion {
+
+    private final AFNDCompilado afnd;
+    private long[] actual;
+    private long[] siguiente;
+    private boolean muerta;
+    private long posicion;
+
+    EjecucionAFND(AFNDCompilado afnd) {
+        this.afnd = afnd;
+        this.actual = afnd.nuevoConjunto();
+        this.siguiente = afnd.nuevoConjunto();
+        reiniciar();
+    }
+
+    @Override
+    public void alimentar(char[] datos, int desde, int longitud) {
+        final int fin = desde + longitud;
+        for (int i = desde; i < fin && !muerta; i++) {
+            avanzar(datos[i]);
+        }
+        posicion += longitud;
+    }
+
+    @Override
+    public void alimentar(CharSequence datos) {
+        final int n = datos.length();
+        for (int i = 0; i < n && !muerta; i++) {
+            avanzar(datos.charAt(i));
+        }
+        posicion += n;
+    }
+
+    private void avanzar(char simbolo) {
+        muerta = !afnd.mover(actual, simbolo, siguiente);
+        long[] tmp = actual;
+        actual = siguiente;
+        siguiente = tmp;
+    }
+
+    @Override
+    public boolean acepta() {
+        return !muerta && afnd.contieneFinal(actual);
+    }
+
+    @Override
+    public boolean estaMuerta() {
+        return muerta;
+    }
+
+    @Override
+    public long getPosicion() {
+        return posicion;
+    }
+
+    @Override
+    public void reiniciar() {
+        afnd.copiarInicial(actual);
+        posicion = 0;
+        // Sin estado inicial el conjunto de partida es vacío
+        muerta = true;
+        for (long palabra : actual) {
+            if (palabra != 0) {
+                muerta = false;
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package automatas.core;
+
+/**
+ * Ejecución genérica para autómatas sin simulación incremental (por ejemplo
+ * el {@link AP}): guarda la entrada y la evalúa completa al consultar.
+ */
+final class EjecucionAcumulada implements Ejecucion {
+
+    private final Automata automata;
+    private final StringBuilder entrada = new StringBuilder();
+
+    EjecucionAcumulada(Automata automata) {
+        this.automata = automata;
+    }
+
+    @Override
+    public void alimentar(char[] datos, int desde, int longitud) {
+        entrada.append(datos, desde, longitud);
+    }
+
+    @Override
+    public void alimentar(CharSequence datos) {
+        entrada.append(datos);
+    }
+
+    @Override
+    public boolean acepta() {
+        return automata.acepta(entrada.toString());
+    }
+
+    /**
+     * Sin simulación incremental no se puede saber; siempre false.
+     */
+    @Override
+    public boolean estaMuerta() {
+        return false;
+    }
+
+    @Override
+    public long getPosicion() {
+        return entrada.length();
+    }
+
+    @Override
+    public void reiniciar() {
+        entrada.setLength(0);
+    }
+}
@@ -0,0 +1,61 @@
+package automatas.core;
+
+/**
+ * Pila inmutable de símbolos (enteros de {@link APCompilado}) como lista
+ * enlazada con estructura compartida. Apilar crea un nodo y desapilar no
+ * copia nada, así que bifurcar una rama de ejecución cuesta O(1).
+ */
+final class PilaPersistente {
+
+    static final PilaPersistente VACIA = new PilaPersistente(-1, null, 0);
+
+    private final int tope;
+    private final PilaPersistente resto;
+    private final int tamano;
+
+    private PilaPersistente(int tope, PilaPersistente resto, int tamano) {
+        this.tope = tope;
+        this.resto = resto;
+        this.tamano = tamano;
+    }
+
+    PilaPersistente apilar(int simbolo) {
+        return new PilaPersistente(simbolo, this, tamano + 1);
+    }
+
+    /**
+     * Desapila el tope y apila {@code reemplazo} (reemplazo[0] queda arriba).
+     * Si el reemplazo termina con el mismo tope, ese nodo se reutiliza, de
+     * modo que solo se crean nodos para los símbolos realmente nuevos.
+     */
+    PilaPersistente reemplazarTope(int[] reemplazo) {
+        int k = reemplazo.length;
+        PilaPersistente base;
+        if (k > 0 && reemplazo[k - 1] == tope) {
+            base = this;
+            k--;
+        } else {
+            base = resto;
+        }
+        for (int i = k - 1; i >= 0; i--) {
+            base = base.apilar(reemplazo[i]);
+        }
+        return base;
+    }
+
+    boolean esVacia() {
+        return tamano == 0;
+    }
+
+    int getTope() {
+        return tope;
+    }
+
+    PilaPersistente getResto() {
+        return resto;
+    }
+
+    int getTamano() {
+        return tamano;
+    }
+}
@@ -0,0 +1,330 @@
+package automatas.regex;
+
+import automatas.core.AFD;
+import automatas.regex.RegexAST.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Construcción directa de un AFD a partir del AST mediante derivadas de
+ * Brzozowski, sin pasar por un AFND.
+ *
+ * Cada estado es una expresión (término) y la transición por a es su
+ * derivada respecto de a; el estado es final si el término acepta ε. Los
+ * términos se normalizan al construirse (uniones aplanadas, ordenadas y sin
+ * repetidos, ∅ y ε absorbidos, concatenación asociada a la derecha,
+ * (r*)* = r*) y se internan en una tabla, así que dos derivadas similares
+ * son el mismo objeto y se comparan por referencia. Con esa normalización el
+ * número de derivadas distintas es finito y el AFD suele quedar cerca del
+ * mínimo. Una repetición r{m,n} es un solo término con sus cotas y su
+ * derivada baja las cotas en uno, así que no se expande en n copias. El
+ * término ∅ no se agrega como estado: el AFD es parcial.
+ */
+public class ConstructorDerivadas {
+
+    private static final int VACIO = 0;
+    private static final int EPSILON = 1;
+    private static final int SIMBOLO = 2;
+    private static final int CONCAT = 3;
+    private static final int UNION = 4;
+    private static final int ESTRELLA = 5;
+    private static final int REPETICION = 6;
+
+    /**
+     * Término internado. Una unión de varios elementos es una cadena
+     * UNION(x1, UNION(x2, ...)) con los xi ordenados por id.
+     */
+    private static final class Termino {
+        final int id;
+        final int tipo;
+        final char simbolo;
+        final Termino izq;
+        final Termino der;
+        // Cotas de REPETICION (max = Repeat.SIN_LIMITE si no hay)
+        final int min;
+        final int max;
+        final boolean anulable;
+        // Derivada por columna del alfabeto, calculada a demanda
+        Termino[] derivadas;
+
+        Termino(int id, int tipo, char simbolo, Termino izq, Termino der,
+                int min, int max, boolean anulable) {
+            this.id = id;
+            this.tipo = tipo;
+            this.simbolo = simbolo;
+            this.izq = izq;
+            this.der = der;
+            this.min = min;
+            this.max = max;
+            this.anulable = anulable;
+        }
+    }
+
+    private record Clave(int tipo, char simbolo, int izq, int der, int min, int max) {}
+
+    private final Map<Clave, Termino> terminos = new HashMap<>();
+    // Subárboles ya traducidos; con nodos de una Fabrica los repetidos se traducen una vez
+    private final Map<Node, Termino> traducidos = new IdentityHashMap<>();
+    private final Termino vacio;
+    private final Termino epsilon;
+    private char[] alfabeto;
+
+    public ConstructorDerivadas() {
+        vacio = internar(VACIO, '\0', null, null, false);
+        epsilon = internar(EPSILON, '\0', null, null, true);
+    }
+
+    public AFD construir(Node node) {
+        Set<Character> simbolos = new TreeSet<>();
+        recolectarSimbolos(node, simbolos);
+        alfabeto = new char[simbolos.size()];
+        int k = 0;
+        for (char c : simbolos) {
+            alfabeto[k++] = c;
+        }
+
+        Termino inicial = desdeAST(node);
+
+        // BFS sobre las derivadas; la lista hace de cola
+        Map<Termino, Integer> indices = new HashMap<>();
+        List<Termino> estados = new ArrayList<>();
+        indices.put(inicial, 0);
+        estados.add(inicial);
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        for (int actual = 0; actual < estados.size(); actual++) {
+            Termino t = estados.get(actual);
+            Map<Character, String> trans = new HashMap<>();
+            for (int col = 0; col < alfabeto.length; col++) {
+                Termino d = derivar(t, col);
+                if (d == vacio) {
+                    continue;
+                }
+                Integer destino = indices.get(d);
+                if (destino == null) {
+                    destino = estados.size();
+                    indices.put(d, destino);
+                    estados.add(d);
+                }
+                trans.put(alfabeto[col], "q" + destino);
+            }
+            transiciones.put("q" + actual, trans);
+        }
+
+        Set<String> nombres = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        for (int i = 0; i < estados.size(); i++) {
+            nombres.add("q" + i);
+            if (estados.get(i).anulable) {
+                finales.add("q" + i);
+            }
+        }
+        Set<Character> alfabetoAFD = new HashSet<>(simbolos);
+        return new AFD(nombres, alfabetoAFD, transiciones, "q0", finales);
+    }
+
+    /**
+     * Términos distintos creados hasta ahora (incluye subtérminos).
+     */
+    public int getNumTerminos() {
+        return terminos.size();
+    }
+
+    private void recolectarSimbolos(Node node, Set<Character> simbolos) {
+        switch (node) {
+            case Literal lit -> {
+                if (lit.c() != '\0') {
+                    simbolos.add(lit.c());
+                }
+            }
+            case Concat cat -> {
+                recolectarSimbolos(cat.left(), simbolos);
+                recolectarSimbolos(cat.right(), simbolos);
+            }
+            case Union uni -> {
+                recolectarSimbolos(uni.left(), simbolos);
+                recolectarSimbolos(uni.right(), simbolos);
+            }
+            case Star st -> recolectarSimbolos(st.node(), simbolos);
+            case Plus plus -> recolectarSimbolos(plus.node(), simbolos);
+            case Question q -> recolectarSimbolos(q.node(), simbolos);
+            case Repeat rep -> recolectarSimbolos(rep.node(), simbolos);
+            default -> throw new RuntimeException("Nodo desconocido: " + node.getClass());
+        }
+    }
+
+    private Termino desdeAST(Node node) {
+        Termino t = traducidos.get(node);
+        if (t == null) {
+            t = traducir(node);
+            traducidos.put(node, t);
+        }
+        return t;
+    }
+
+    private Termino traducir(Node node) {
+        if (node instanceof Literal lit) {
+            return lit.c() == '\0' ? epsilon : simbolo(lit.c());
+        }
+        if (node instanceof Concat cat) {
+            return concat(desdeAST(cat.left()), desdeAST(cat.right()));
+        }
+        if (node instanceof Union uni) {
+            return union(desdeAST(uni.left()), desdeAST(uni.right()));
+        }
+        if (node instanceof Star st) {
+            return estrella(desdeAST(st.node()));
+        }
+        if (node instanceof Plus plus) {
+            Termino r = desdeAST(plus.node());
+            return concat(r, estrella(r));
+        }
+        if (node instanceof Question q) {
+            return union(desdeAST(q.node()), epsilon);
+        }
+        if (node instanceof Repeat rep) {
+            return repeticion(desdeAST(rep.node()), rep.min(), rep.max());
+        }
+        throw new RuntimeException("Nodo desconocido: " + node.getClass());
+    }
+
+    private Termino derivar(Termino t, int col) {
+        if (t.derivadas == null) {
+            t.derivadas = new Termino[alfabeto.length];
+        }
+        Termino d = t.derivadas[col];
+        if (d != null) {
+            return d;
+        }
+        d = switch (t.tipo) {
+            case VACIO, EPSILON -> vacio;
+            case SIMBOLO -> t.simbolo == alfabeto[col] ? epsilon : vacio;
+            case CONCAT -> {
+                Termino primera = concat(derivar(t.izq, col), t.der);
+                yield t.izq.anulable ? union(primera, derivar(t.der, col)) : primera;
+            }
+            case UNION -> union(derivar(t.izq, col), derivar(t.der, col));
+            case ESTRELLA -> concat(derivar(t.izq, col), t);
+            // d(r{m,n}) = d(r)·r{m-1,n-1}; alcanza aunque r sea anulable
+            case REPETICION -> concat(derivar(t.izq, col), repeticion(t.izq, Math.max(0, t.min - 1),
+                    t.max == Repeat.SIN_LIMITE ? Repeat.SIN_LIMITE : t.max - 1));
+            default -> throw new IllegalStateException("Tipo de término desconocido: " + t.tipo);
+        };
+        t.derivadas[col] = d;
+        return d;
+    }
+
+    // ===== Constructores normalizados =====
+
+    private Termino simbolo(char c) {
+        return internar(SIMBOLO, c, null, null, false);
+    }
+
+    private Termino concat(Termino r, Termino s) {
+        if (r == vacio || s == vacio) {
+            return vacio;
+        }
+        if (r == epsilon) {
+            return s;
+        }
+        if (s == epsilon) {
+            return r;
+        }
+        if (r.tipo == CONCAT) {
+            // (r1·r2)·s = r1·(r2·s)
+            return concat(r.izq, concat(r.der, s));
+        }
+        return internar(CONCAT, '\0', r, s, r.anulable && s.anulable);
+    }
+
+    private Termino union(Termino r, Termino s) {
+        if (r == s || s == vacio) {
+            return r;
+        }
+        if (r == vacio) {
+            return s;
+        }
+        // Mezclar las dos cadenas ordenadas sin repetidos
+        List<Termino> elementos = new ArrayList<>();
+        Termino a = r;
+        Termino b = s;
+        while (a != null || b != null) {
+            Termino x = a == null ? null : (a.tipo == UNION ? a.izq : a);
+            Termino y = b == null ? null : (b.tipo == UNION ? b.izq : b);
+            Termino menor;
+            if (y == null || (x != null && x.id <= y.id)) {
+                menor = x;
+                a = a.tipo == UNION ? a.der : null;
+                if (y == x) {
+                    b = b.tipo == UNION ? b.der : null;
+                }
+            } else {
+                menor = y;
+                b = b.tipo == UNION ? b.der : null;
+            }
+            elementos.add(menor);
+        }
+
+        // ε sobra si otro elemento ya acepta la cadena vacía
+        boolean otroAnulable = false;
+        for (Termino e : elementos) {
+            otroAnulable |= e != epsilon && e.anulable;
+        }
+        if (otroAnulable) {
+            elementos.remove(epsilon);
+        }
+
+        Termino resultado = elementos.get(elementos.size() - 1);
+        for (int i = elementos.size() - 2; i >= 0; i--) {
+            Termino e = elementos.get(i);
+            resultado = internar(UNION, '\0', e, resultado, e.anulable || resultado.anulable);
+        }
+        return resultado;
+    }
+
+    private Termino estrella(Termino r) {
+        if (r == vacio || r == epsilon) {
+            return epsilon;
+        }
+        if (r.tipo == ESTRELLA) {
+            return r;
+        }
+        return internar(ESTRELLA, '\0', r, null, true);
+    }
+
+    private Termino repeticion(Termino r, int min, int max) {
+        if (max == Repeat.SIN_LIMITE && min == 0) {
+            return estrella(r);
+        }
+        if (max == 0 || r == epsilon) {
+            return epsilon;
+        }
+        if (r == vacio) {
+            return min == 0 ? epsilon : vacio;
+        }
+        if (min == 1 && max == 1) {
+            return r;
+        }
+        return internar(REPETICION, '\0', r, null, min, max, min == 0 || r.anulable);
+    }
+
+    private Termino internar(int tipo, char simbolo, Termino izq, Termino der, boolean anulable) {
+        return internar(tipo, simbolo, izq, der, 0, 0, anulable);
+    }
+
+    private Termino internar(int tipo, char simbolo, Termino izq, Termino der,
+                             int min, int max, boolean anulable) {
+        Clave clave = new Clave(tipo, simbolo, izq == null ? -1 : izq.id, der == null ? -1 : der.id, min, max);
+        Termino t = terminos.get(clave);
+        if (t == null) {
+            t = new Termino(terminos.size(), tipo, simbolo, izq, der, min, max, anulable);
+            terminos.put(clave, t);
+        }
+        return t;
+    }
+}
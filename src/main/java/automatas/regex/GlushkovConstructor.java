@@ -0,0 +1,182 @@
+package automatas.regex;
+
+import automatas.core.AFND;
+import automatas.regex.RegexAST.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Constructor de Glushkov (autómata de posiciones).
+ *
+ * Cada literal de la expresión es una posición; se calculan los conjuntos
+ * primeros, últimos y siguientes de cada subexpresión. El AFND resultante no
+ * tiene transiciones ε y tiene exactamente n + 1 estados para n literales:
+ * q0 es el inicial y qi la posición i. Toda transición hacia qi lleva el
+ * símbolo de esa posición. El literal '\0' que usa el parser para ε no cuenta
+ * como posición.
+ */
+public class GlushkovConstructor {
+
+    // Primeros, últimos y si acepta la cadena vacía
+    private record Info(boolean anulable, BitSet primeros, BitSet ultimos) {}
+
+    // Símbolo de cada posición (el índice 0 es el estado inicial)
+    private final List<Character> simbolos = new ArrayList<>();
+    private final List<BitSet> siguientes = new ArrayList<>();
+
+    public AFND construir(Node node) {
+        simbolos.clear();
+        siguientes.clear();
+        simbolos.add(null);
+        siguientes.add(null);
+
+        Info raiz = analizar(node);
+
+        final int n = simbolos.size();
+        Set<String> estados = new HashSet<>();
+        Set<Character> alfabeto = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Map<String, Map<Character, Set<String>>> transiciones = new HashMap<>();
+        for (int p = 0; p < n; p++) {
+            estados.add("q" + p);
+            if (p > 0) {
+                alfabeto.add(simbolos.get(p));
+            }
+        }
+
+        agregarTransiciones(0, raiz.primeros(), transiciones);
+        for (int p = 1; p < n; p++) {
+            agregarTransiciones(p, siguientes.get(p), transiciones);
+        }
+        for (int p = raiz.ultimos().nextSetBit(0); p >= 0; p = raiz.ultimos().nextSetBit(p + 1)) {
+            finales.add("q" + p);
+        }
+        if (raiz.anulable()) {
+            finales.add("q0");
+        }
+        return new AFND(estados, alfabeto, transiciones, "q0", finales);
+    }
+
+    private void agregarTransiciones(int origen, BitSet destinos,
+                                     Map<String, Map<Character, Set<String>>> transiciones) {
+        Map<Character, Set<String>> trans = new HashMap<>();
+        for (int q = destinos.nextSetBit(0); q >= 0; q = destinos.nextSetBit(q + 1)) {
+            trans.computeIfAbsent(simbolos.get(q), k -> new HashSet<>()).add("q" + q);
+        }
+        transiciones.put("q" + origen, trans);
+    }
+
+    private Info analizar(Node node) {
+        if (node instanceof Literal lit) {
+            if (lit.c() == '\0') {
+                return new Info(true, new BitSet(), new BitSet());
+            }
+            int p = simbolos.size();
+            simbolos.add(lit.c());
+            siguientes.add(new BitSet());
+            BitSet conjunto = new BitSet();
+            conjunto.set(p);
+            return new Info(false, conjunto, (BitSet) conjunto.clone());
+        }
+
+        if (node instanceof Concat cat) {
+            return concatenar(analizar(cat.left()), analizar(cat.right()));
+        }
+
+        if (node instanceof Union uni) {
+            Info izq = analizar(uni.left());
+            Info der = analizar(uni.right());
+            izq.primeros().or(der.primeros());
+            izq.ultimos().or(der.ultimos());
+            return new Info(izq.anulable() || der.anulable(), izq.primeros(), izq.ultimos());
+        }
+
+        if (node instanceof Star st) {
+            Info interno = analizar(st.node());
+            enlazar(interno.ultimos(), interno.primeros());
+            return new Info(true, interno.primeros(), interno.ultimos());
+        }
+
+        if (node instanceof Plus plus) {
+            Info interno = analizar(plus.node());
+            enlazar(interno.ultimos(), interno.primeros());
+            return interno;
+        }
+
+        if (node instanceof Question q) {
+            Info interno = analizar(q.node());
+            return new Info(true, interno.primeros(), interno.ultimos());
+        }
+
+        if (node instanceof Repeat rep) {
+            return analizarRepeticion(rep);
+        }
+
+        throw new RuntimeException("Nodo desconocido: " + node.getClass());
+    }
+
+    private Info concatenar(Info izq, Info der) {
+        enlazar(izq.ultimos(), der.primeros());
+        BitSet primeros = izq.primeros();
+        if (izq.anulable()) {
+            primeros.or(der.primeros());
+        }
+        BitSet ultimos = der.ultimos();
+        if (der.anulable()) {
+            ultimos.or(izq.ultimos());
+        }
+        return new Info(izq.anulable() && der.anulable(), primeros, ultimos);
+    }
+
+    /**
+     * r{min,max}: cada copia tiene sus propias posiciones. Las copias
+     * opcionales se anidan como (r(r(r)?)?)?, así cada una solo enlaza con la
+     * siguiente y la cantidad de transiciones queda lineal en max.
+     */
+    private Info analizarRepeticion(Repeat rep) {
+        Info resultado = new Info(true, new BitSet(), new BitSet());
+        for (int i = 0; i < rep.min(); i++) {
+            resultado = concatenar(resultado, analizar(rep.node()));
+        }
+        if (rep.max() == Repeat.SIN_LIMITE) {
+            Info interno = analizar(rep.node());
+            enlazar(interno.ultimos(), interno.primeros());
+            return concatenar(resultado, new Info(true, interno.primeros(), interno.ultimos()));
+        }
+        int opcionales = rep.max() - rep.min();
+        if (opcionales == 0) {
+            return resultado;
+        }
+        Info[] copias = new Info[opcionales];
+        for (int i = 0; i < opcionales; i++) {
+            copias[i] = analizar(rep.node());
+        }
+        Info cola = new Info(true, new BitSet(), new BitSet());
+        for (int i = opcionales - 1; i >= 0; i--) {
+            Info anidada = concatenar(copias[i], cola);
+            cola = new Info(true, anidada.primeros(), anidada.ultimos());
+        }
+        return concatenar(resultado, cola);
+    }
+
+    /**
+     * Agrega {@code destinos} a los siguientes de cada posición de {@code origenes}.
+     */
+    private void enlazar(BitSet origenes, BitSet destinos) {
+        for (int p = origenes.nextSetBit(0); p >= 0; p = origenes.nextSetBit(p + 1)) {
+            siguientes.get(p).or(destinos);
+        }
+    }
+
+    /**
+     * Número de posiciones (literales) de la última expresión construida.
+     */
+    public int getNumPosiciones() {
+        return simbolos.size() - 1;
+    }
+}
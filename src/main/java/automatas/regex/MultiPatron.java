@@ -0,0 +1,122 @@
+package automatas.regex;
+
+import automatas.algoritmos.Determinizador;
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.regex.RegexAST.Node;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Autómata combinado para evaluar varios patrones en una sola pasada.
+ *
+ * Los patrones se unen en un solo AFND de Thompson en el que cada uno
+ * conserva su estado final, y ese AFND se determiniza con
+ * {@link Determinizador}. Cada estado del AFD guarda el conjunto de patrones
+ * cuyo final contiene, así que el costo por carácter no depende de cuántos
+ * patrones haya.
+ */
+public class MultiPatron {
+
+    private static final int MUERTO = Determinizador.SIN_TRANSICION;
+
+    private final int numPatrones;
+    private final AFNDCompilado afnd;
+    private final int numSimbolos;
+    // tabla[estado * numSimbolos + columna], MUERTO si no hay transición
+    private final int[] tabla;
+    // Patrones aceptados en cada estado del AFD (null si ninguno)
+    private final BitSet[] aceptados;
+
+    public MultiPatron(List<Node> patrones) {
+        this.numPatrones = patrones.size();
+        List<String> finales = new ArrayList<>();
+        AFND union = new ThompsonConstructor().construirUnion(patrones, finales);
+        this.afnd = union.compilar();
+        this.numSimbolos = afnd.getNumSimbolos();
+
+        // Estado del AFND compilado -> patrón del que es final
+        Map<String, Integer> patronDeFinal = new HashMap<>();
+        for (int i = 0; i < finales.size(); i++) {
+            patronDeFinal.put(finales.get(i), i);
+        }
+        int[] patronDeEstado = new int[afnd.getNumEstados()];
+        for (int q = 0; q < patronDeEstado.length; q++) {
+            Integer p = patronDeFinal.get(afnd.getNombre(q));
+            patronDeEstado[q] = p == null ? -1 : p;
+        }
+
+        Determinizador determinizador = new Determinizador(afnd);
+        int numEstados = determinizador.getNumEstados();
+        this.tabla = new int[numEstados * numSimbolos];
+        for (int e = 0; e < numEstados; e++) {
+            for (int col = 0; col < numSimbolos; col++) {
+                tabla[e * numSimbolos + col] = determinizador.getTransicion(e, col);
+            }
+        }
+
+        this.aceptados = new BitSet[numEstados];
+        for (int e = 0; e < numEstados; e++) {
+            long[] bits = determinizador.getConjunto(e).getBits();
+            BitSet aceptadosEstado = null;
+            for (int w = 0; w < bits.length; w++) {
+                long palabra = bits[w];
+                while (palabra != 0) {
+                    int q = (w << 6) + Long.numberOfTrailingZeros(palabra);
+                    palabra &= palabra - 1;
+                    if (patronDeEstado[q] >= 0) {
+                        if (aceptadosEstado == null) {
+                            aceptadosEstado = new BitSet(numPatrones);
+                        }
+                        aceptadosEstado.set(patronDeEstado[q]);
+                    }
+                }
+            }
+            this.aceptados[e] = aceptadosEstado;
+        }
+    }
+
+    /**
+     * Patrones (por su índice en la lista original) que aceptan la cadena
+     * completa. El resultado es una copia que el llamador puede modificar.
+     */
+    public BitSet coincidencias(CharSequence cadena) {
+        int estado = recorrer(cadena);
+        if (estado == MUERTO || aceptados[estado] == null) {
+            return new BitSet();
+        }
+        return (BitSet) aceptados[estado].clone();
+    }
+
+    /**
+     * Indica si al menos un patrón acepta la cadena completa.
+     */
+    public boolean coincideAlguno(CharSequence cadena) {
+        int estado = recorrer(cadena);
+        return estado != MUERTO && aceptados[estado] != null;
+    }
+
+    private int recorrer(CharSequence cadena) {
+        int estado = 0;
+        final int n = cadena.length();
+        for (int i = 0; i < n && estado != MUERTO; i++) {
+            int col = afnd.columna(cadena.charAt(i));
+            estado = col < 0 ? MUERTO : tabla[estado * numSimbolos + col];
+        }
+        return estado;
+    }
+
+    public int getNumPatrones() {
+        return numPatrones;
+    }
+
+    /**
+     * Estados del AFD combinado.
+     */
+    public int getNumEstados() {
+        return aceptados.length;
+    }
+}
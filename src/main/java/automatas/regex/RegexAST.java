@@ -1,12 +1,21 @@
 package automatas.regex;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 /**
  * Árbol de Sintaxis Abstracta para expresiones regulares
  */
 public class RegexAST {
     
     /**
-     * Nodo base del AST
+     * Nodo base del AST. Los nodos se comparan por identidad: {@code equals}
+     * es {@code ==} y {@code hashCode} es el de identidad, ambos O(1). Como la
+     * {@link Fabrica} interna los subárboles, dentro de una misma fábrica eso
+     * coincide con la igualdad estructural; nodos de fábricas distintas nunca
+     * son iguales, aunque representen la misma expresión.
      */
     public interface Node {}
     
@@ -18,6 +27,16 @@ public class RegexAST {
         public String toString() {
             return String.valueOf(c);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
     }
     
     /**
@@ -28,6 +47,16 @@ public class RegexAST {
         public String toString() {
             return "(" + left + " · " + right + ")";
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
     }
     
     /**
@@ -38,6 +67,16 @@ public class RegexAST {
         public String toString() {
             return "(" + left + " | " + right + ")";
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
     }
     
     /**
@@ -48,6 +87,16 @@ public class RegexAST {
         public String toString() {
             return "(" + node + ")*";
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
     }
     
     /**
@@ -58,6 +107,16 @@ public class RegexAST {
         public String toString() {
             return "(" + node + ")+";
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
     }
     
     /**
@@ -68,5 +127,116 @@ public class RegexAST {
         public String toString() {
             return "(" + node + ")?";
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+    
+    /**
+     * Repetición acotada: a{min,max}. max = {@link #SIN_LIMITE} para a{min,}
+     */
+    public record Repeat(Node node, int min, int max) implements Node {
+        public static final int SIN_LIMITE = -1;
+        
+        public Repeat {
+            if (min < 0 || (max != SIN_LIMITE && max < min)) {
+                throw new IllegalArgumentException("Repetición inválida: {" + min + "," + max + "}");
+            }
+        }
+        
+        @Override
+        public String toString() {
+            if (max == min) {
+                return "(" + node + "){" + min + "}";
+            }
+            return "(" + node + "){" + min + "," + (max == SIN_LIMITE ? "" : max) + "}";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+    
+    /**
+     * Fábrica con hash-consing: cada nodo se crea una sola vez por fábrica y
+     * los subárboles iguales son el mismo objeto, así que dos nodos de la
+     * misma fábrica son iguales si y solo si son la misma referencia. La
+     * tabla indexa por tipo y por el número de cada hijo, de modo que internar
+     * un nodo cuesta O(1) y no recorre el subárbol. Como los nodos se comparan
+     * por identidad, cualquier {@code HashMap} o {@code List.remove} sobre
+     * ellos cuesta O(1) por nodo; nodos de fábricas distintas no son iguales.
+     */
+    public static final class Fabrica {
+        
+        private record Clave(int tipo, char c, int izq, int der, int min, int max) {}
+        
+        private final Map<Clave, Node> tabla = new HashMap<>();
+        private final Map<Node, Integer> ids = new IdentityHashMap<>();
+        
+        public Node literal(char c) {
+            return internar(new Clave(0, c, -1, -1, 0, 0), () -> new Literal(c));
+        }
+        
+        public Node concat(Node left, Node right) {
+            return internar(new Clave(1, '\0', id(left), id(right), 0, 0), () -> new Concat(left, right));
+        }
+        
+        public Node union(Node left, Node right) {
+            return internar(new Clave(2, '\0', id(left), id(right), 0, 0), () -> new Union(left, right));
+        }
+        
+        public Node star(Node node) {
+            return internar(new Clave(3, '\0', id(node), -1, 0, 0), () -> new Star(node));
+        }
+        
+        public Node plus(Node node) {
+            return internar(new Clave(4, '\0', id(node), -1, 0, 0), () -> new Plus(node));
+        }
+        
+        public Node question(Node node) {
+            return internar(new Clave(5, '\0', id(node), -1, 0, 0), () -> new Question(node));
+        }
+        
+        public Node repeat(Node node, int min, int max) {
+            return internar(new Clave(6, '\0', id(node), -1, min, max), () -> new Repeat(node, min, max));
+        }
+        
+        /**
+         * Nodos distintos creados por esta fábrica.
+         */
+        public int getNumNodos() {
+            return tabla.size();
+        }
+        
+        private int id(Node node) {
+            Integer id = ids.get(node);
+            if (id == null) {
+                throw new IllegalArgumentException("El nodo no fue creado por esta fábrica: " + node);
+            }
+            return id;
+        }
+        
+        private Node internar(Clave clave, Supplier<Node> crear) {
+            Node node = tabla.get(clave);
+            if (node == null) {
+                node = crear.get();
+                tabla.put(clave, node);
+                ids.put(node, ids.size());
+            }
+            return node;
+        }
     }
-}
\ No newline at end of file
+}
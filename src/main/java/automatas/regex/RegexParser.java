@@ -4,10 +4,20 @@ import automatas.regex.RegexAST.*;
 
 public class RegexParser {
     private final String input;
+    private final Fabrica fabrica;
     private int pos = 0;
 
     public RegexParser(String input) {
+        this(input, new Fabrica());
+    }
+
+    /**
+     * Comparte la fábrica entre varias expresiones: los subárboles comunes
+     * quedan como un solo objeto.
+     */
+    public RegexParser(String input, Fabrica fabrica) {
         this.input = input;
+        this.fabrica = fabrica;
     }
 
     public Node parse() {
@@ -23,7 +33,7 @@ public class RegexParser {
         Node left = parseConcat();
         while (match('|')) {
             Node right = parseConcat();
-            left = new Union(left, right);
+            left = fabrica.union(left, right);
         }
         return left;
     }
@@ -34,7 +44,7 @@ public class RegexParser {
         while (true) {
             Node next = parseRepeat();
             if (next == null) break;
-            left = new Concat(left, next);
+            left = fabrica.concat(left, next);
         }
         return left;
     }
@@ -46,13 +56,13 @@ public class RegexParser {
 
         while (true) {
             if (match('*')) {
-                node = new Star(node);
+                node = fabrica.star(node);
             } else if (match('+')) {
                 // a+ = aa*
-                node = new Concat(node, new Star(node));
+                node = fabrica.concat(node, fabrica.star(node));
             } else if (match('?')) {
                 // a? = (a|ε)
-                node = new Union(node, new Literal('\0')); // \0 representa epsilon
+                node = fabrica.union(node, fabrica.literal('\0')); // \0 representa epsilon
             } else if (peek() == '{') {
                 node = parseRepetition(node);
             } else {
@@ -84,81 +94,12 @@ public class RegexParser {
             throw new RuntimeException("Expected '}'");
         }
 
-        // Construir el nodo resultante
-        if (unbounded) {
-            // {n,} = aaa...a (n veces) seguido de a*
-            return buildRepetition(node, min, true);
-        } else {
-            // {n} o {n,m}
-            return buildRepetition(node, min, max);
-        }
-    }
-
-    // Construir repetición exacta o rango
-    private Node buildRepetition(Node node, int min, int max) {
-        if (min == 0 && max == 0) {
-            return new Literal('\0'); // epsilon
-        }
-
-        if (min == max) {
-            // Repetición exacta: {n} = nnn...n (n veces)
-            Node result = cloneNode(node);
-            for (int i = 1; i < min; i++) {
-                result = new Concat(result, cloneNode(node));
-            }
-            return result;
-        }
-
-        // Rango {min, max}: construir todas las opciones
-        // Por ejemplo: {2,4} = (nn|nnn|nnnn)
-        Node result = null;
-        
-        for (int count = min; count <= max; count++) {
-            // Construir 'count' repeticiones
-            Node option = cloneNode(node);
-            for (int i = 1; i < count; i++) {
-                option = new Concat(option, cloneNode(node));
-            }
-            
-            // Agregar esta opción a la unión
-            if (result == null) {
-                result = option;
-            } else {
-                result = new Union(result, option);
-            }
-        }
-
-        return result;
-    }
-
-    // Construir repetición ilimitada {n,}
-    private Node buildRepetition(Node node, int min, boolean unbounded) {
-        if (min == 0) {
-            return new Star(node); // {0,} = a*
-        }
-
-        // {n,} = aaa...a (n veces) seguido de a*
-        Node result = null;
-        for (int i = 0; i < min; i++) {
-            if (result == null) {
-                result = cloneNode(node);
-            } else {
-                result = new Concat(result, cloneNode(node));
-            }
+        if (!unbounded && max < min) {
+            throw new RuntimeException("Invalid repetition {" + min + "," + max + "}");
         }
 
-        return new Concat(result, new Star(cloneNode(node)));
-    }
-
-    // Clonar un nodo (necesario porque reutilizamos la misma expresión)
-    private Node cloneNode(Node node) {
-        return switch (node) {
-            case Literal lit -> new Literal(lit.c());
-            case Star st -> new Star(cloneNode(st.node()));
-            case Union un -> new Union(cloneNode(un.left()), cloneNode(un.right()));
-            case Concat cat -> new Concat(cloneNode(cat.left()), cloneNode(cat.right()));
-            default -> throw new RuntimeException("Unknown node type: " + node.getClass());
-        };
+        // Un solo nodo: los constructores de autómatas encadenan las copias
+        return fabrica.repeat(node, min, unbounded ? Repeat.SIN_LIMITE : max);
     }
 
     private int parseNumber() {
@@ -194,7 +135,7 @@ public class RegexParser {
         }
 
         pos++;
-        return new Literal(c);
+        return fabrica.literal(c);
     }
 
     private boolean match(char expected) {
@@ -0,0 +1,265 @@
+package automatas.regex;
+
+import automatas.regex.RegexAST.*;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simplificación algebraica del AST antes de construir el autómata.
+ *
+ * Reglas, aplicadas de abajo hacia arriba hasta que nada cambia:
+ * <ul>
+ *   <li>ε·r = r·ε = r, y la concatenación queda asociada a la derecha</li>
+ *   <li>(r*)* = (r+)* = (r?)* = r*, ε* = ε, (ε|r|s*)* = (r|s)*</li>
+ *   <li>(r*)? = r*, r? = r si r acepta ε, (r*)+ = r*, (r+)+ = r+</li>
+ *   <li>r{1} = r, r{0} = ε, r{0,} = r*, (r*){m,n} = r* con n &gt; 0</li>
+ *   <li>uniones aplanadas y sin repetidos; ε sobra si otra alternativa ya
+ *       acepta la cadena vacía</li>
+ *   <li>factorización de prefijos: ab|ac = a(b|c)</li>
+ * </ul>
+ * Los nodos se crean con una {@link RegexAST.Fabrica}, así que detectar
+ * repetidos y el punto fijo es comparar referencias.
+ */
+public class SimplificadorRegex {
+
+    private final Fabrica fabrica;
+    private final Node epsilon;
+    // Nodos ya simplificados (con el resultado de cada uno)
+    private final Map<Node, Node> simplificados = new IdentityHashMap<>();
+
+    public SimplificadorRegex() {
+        this(new Fabrica());
+    }
+
+    public SimplificadorRegex(Fabrica fabrica) {
+        this.fabrica = fabrica;
+        this.epsilon = fabrica.literal('\0');
+    }
+
+    public Node simplificar(Node node) {
+        Node actual = reconstruir(node);
+        while (true) {
+            Node siguiente = paso(actual);
+            if (siguiente == actual) {
+                return actual;
+            }
+            actual = siguiente;
+        }
+    }
+
+    /**
+     * Copia el árbol con la fábrica, para poder comparar por referencia.
+     */
+    private Node reconstruir(Node node) {
+        return switch (node) {
+            case Literal lit -> fabrica.literal(lit.c());
+            case Concat cat -> fabrica.concat(reconstruir(cat.left()), reconstruir(cat.right()));
+            case Union uni -> fabrica.union(reconstruir(uni.left()), reconstruir(uni.right()));
+            case Star st -> fabrica.star(reconstruir(st.node()));
+            case Plus plus -> fabrica.plus(reconstruir(plus.node()));
+            case Question q -> fabrica.question(reconstruir(q.node()));
+            case Repeat rep -> fabrica.repeat(reconstruir(rep.node()), rep.min(), rep.max());
+            default -> throw new RuntimeException("Nodo desconocido: " + node.getClass());
+        };
+    }
+
+    private Node paso(Node node) {
+        Node hecho = simplificados.get(node);
+        if (hecho != null) {
+            return hecho;
+        }
+        Node resultado = switch (node) {
+            case Literal lit -> lit;
+            case Concat cat -> concatenar(paso(cat.left()), paso(cat.right()));
+            case Union uni -> unir(paso(uni.left()), paso(uni.right()));
+            case Star st -> estrella(paso(st.node()));
+            case Plus plus -> mas(paso(plus.node()));
+            case Question q -> opcional(paso(q.node()));
+            case Repeat rep -> repetir(paso(rep.node()), rep.min(), rep.max());
+            default -> throw new RuntimeException("Nodo desconocido: " + node.getClass());
+        };
+        simplificados.put(node, resultado);
+        return resultado;
+    }
+
+    private Node concatenar(Node izq, Node der) {
+        List<Node> factores = new ArrayList<>();
+        aplanarConcat(izq, factores);
+        aplanarConcat(der, factores);
+        return concatDerecha(factores, 0);
+    }
+
+    private Node unir(Node izq, Node der) {
+        // Alternativas sin repetidos, en orden de aparición
+        List<Node> alternativas = new ArrayList<>();
+        aplanarUnion(izq, alternativas);
+        aplanarUnion(der, alternativas);
+        boolean tieneEpsilon = alternativas.remove(epsilon);
+        boolean otraAnulable = false;
+        for (Node alt : alternativas) {
+            otraAnulable |= anulable(alt);
+        }
+
+        // Agrupar por primer factor, conservando el orden
+        List<Node> prefijos = new ArrayList<>();
+        Map<Node, List<Node>> restosPorPrefijo = new IdentityHashMap<>();
+        for (Node alt : alternativas) {
+            List<Node> factores = new ArrayList<>();
+            aplanarConcat(alt, factores);
+            List<Node> restos = restosPorPrefijo.get(factores.get(0));
+            if (restos == null) {
+                restos = new ArrayList<>();
+                restosPorPrefijo.put(factores.get(0), restos);
+                prefijos.add(factores.get(0));
+            }
+            restos.add(concatDerecha(factores, 1));
+        }
+        List<Node> resultado = new ArrayList<>();
+        for (Node prefijo : prefijos) {
+            List<Node> restos = restosPorPrefijo.get(prefijo);
+            Node resto = restos.get(0);
+            for (int i = 1; i < restos.size(); i++) {
+                resto = unir(resto, restos.get(i));
+            }
+            resultado.add(concatenar(prefijo, resto));
+        }
+        if (tieneEpsilon && !otraAnulable) {
+            resultado.add(epsilon);
+        }
+        if (resultado.isEmpty()) {
+            return epsilon;
+        }
+        Node union = resultado.get(0);
+        for (int i = 1; i < resultado.size(); i++) {
+            union = fabrica.union(union, resultado.get(i));
+        }
+        return union;
+    }
+
+    private Node estrella(Node r) {
+        if (r == epsilon) {
+            return epsilon;
+        }
+        return switch (r) {
+            case Star st -> st;
+            case Plus plus -> fabrica.star(plus.node());
+            case Question q -> estrella(q.node());
+            case Union uni -> estrellaDeUnion(uni);
+            default -> fabrica.star(r);
+        };
+    }
+
+    /**
+     * (ε|r|s*|t?)* = (r|s|t)*: dentro de una estrella sobran ε y los
+     * cuantificadores de cada alternativa.
+     */
+    private Node estrellaDeUnion(Union uni) {
+        List<Node> alternativas = new ArrayList<>();
+        aplanarUnion(uni, alternativas);
+        boolean cambio = false;
+        Node interior = null;
+        for (Node alt : alternativas) {
+            Node base = switch (alt) {
+                case Star st -> st.node();
+                case Plus plus -> plus.node();
+                case Question q -> q.node();
+                default -> alt;
+            };
+            cambio |= base != alt || alt == epsilon;
+            if (base != epsilon) {
+                interior = interior == null ? base : unir(interior, base);
+            }
+        }
+        if (interior == null) {
+            return epsilon;
+        }
+        return cambio ? estrella(interior) : fabrica.star(uni);
+    }
+
+    private Node mas(Node r) {
+        return switch (r) {
+            case Star st -> st;
+            case Plus plus -> plus;
+            case Question q -> estrella(q.node());
+            default -> r == epsilon ? epsilon : fabrica.plus(r);
+        };
+    }
+
+    private Node opcional(Node r) {
+        return anulable(r) ? r : fabrica.question(r);
+    }
+
+    private Node repetir(Node r, int min, int max) {
+        if (max == 0 || r == epsilon) {
+            return epsilon;
+        }
+        if (min == 1 && max == 1) {
+            return r;
+        }
+        if (r instanceof Star) {
+            return r;
+        }
+        if (min == 0 && max == Repeat.SIN_LIMITE) {
+            return estrella(r);
+        }
+        return fabrica.repeat(r, min, max);
+    }
+
+    // ===== Auxiliares =====
+
+    private void aplanarConcat(Node node, List<Node> factores) {
+        if (node instanceof Concat cat) {
+            aplanarConcat(cat.left(), factores);
+            aplanarConcat(cat.right(), factores);
+        } else if (node != epsilon) {
+            factores.add(node);
+        }
+    }
+
+    /**
+     * factores[desde] · (factores[desde + 1] · ...), o ε si no queda ninguno.
+     */
+    private Node concatDerecha(List<Node> factores, int desde) {
+        if (desde >= factores.size()) {
+            return epsilon;
+        }
+        Node resultado = factores.get(factores.size() - 1);
+        for (int i = factores.size() - 2; i >= desde; i--) {
+            resultado = fabrica.concat(factores.get(i), resultado);
+        }
+        return resultado;
+    }
+
+    private void aplanarUnion(Node node, List<Node> alternativas) {
+        if (node instanceof Union uni) {
+            aplanarUnion(uni.left(), alternativas);
+            aplanarUnion(uni.right(), alternativas);
+        } else if (!contieneReferencia(alternativas, node)) {
+            alternativas.add(node);
+        }
+    }
+
+    private static boolean contieneReferencia(List<Node> nodos, Node node) {
+        for (Node n : nodos) {
+            if (n == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean anulable(Node node) {
+        return switch (node) {
+            case Literal lit -> lit.c() == '\0';
+            case Concat cat -> anulable(cat.left()) && anulable(cat.right());
+            case Union uni -> anulable(uni.left()) || anulable(uni.right());
+            case Star st -> true;
+            case Plus plus -> anulable(plus.node());
+            case Question q -> true;
+            case Repeat rep -> rep.min() == 0 || anulable(rep.node());
+            default -> throw new RuntimeException("Nodo desconocido: " + node.getClass());
+        };
+    }
+}
@@ -8,7 +8,7 @@ import java.util.*;
 
 /**
  * Constructor de Thompson para convertir expresiones regulares a AFND
- * Soporta: literales, concatenación, unión, *, +, ?
+ * Soporta: literales, concatenación, unión, *, +, ?, {min,max}
  */
 public class ThompsonConstructor {
     
@@ -28,7 +28,21 @@ public class ThompsonConstructor {
         return "q" + (id++);
     }
     
+    /**
+     * Construye el AFND y lo guarda en ~/.automatas/csv/afd.csv.
+     */
     public AFND convert(Node node) throws IOException {
+        AFND afnd = construir(node);
+        String userHome = System.getProperty("user.home");
+        String rutaCSV = userHome + "/.automatas/csv/afd.csv";
+        EscritorAutomata.guardarAFND(afnd, rutaCSV);
+        return afnd;
+    }
+    
+    /**
+     * Construye el AFND sin escribir nada en disco.
+     */
+    public AFND construir(Node node) {
         Map<String, Map<Character, Set<String>>> transitions = new HashMap<>();
         Set<String> states = new HashSet<>();
         Set<Character> alphabet = new HashSet<>();
@@ -37,11 +51,30 @@ public class ThompsonConstructor {
         
         Set<String> finals = Set.of(frag.end);
         
-        AFND afnd = new AFND(states, alphabet, transitions, frag.start, finals);
-        String userHome = System.getProperty("user.home");
-        String rutaCSV = userHome + "/.automatas/csv/afd.csv";
-        EscritorAutomata.guardarAFND(afnd, rutaCSV);
-        return afnd;
+        return new AFND(states, alphabet, transitions, frag.start, finals);
+    }
+    
+    /**
+     * AFND de la unión de varios patrones: un inicio común con ε hacia el
+     * inicio de cada uno. Cada patrón conserva su propio estado final, que se
+     * agrega a {@code finales} en el mismo orden que {@code patrones}.
+     */
+    AFND construirUnion(List<Node> patrones, List<String> finales) {
+        Map<String, Map<Character, Set<String>>> transitions = new HashMap<>();
+        Set<String> states = new HashSet<>();
+        Set<Character> alphabet = new HashSet<>();
+        
+        String s = newState();
+        states.add(s);
+        Set<String> inicios = new HashSet<>();
+        for (Node patron : patrones) {
+            Fragment f = build(patron, transitions, states, alphabet);
+            inicios.add(f.start);
+            finales.add(f.end);
+        }
+        transitions.computeIfAbsent(s, k -> new HashMap<>()).put(null, inicios);
+        
+        return new AFND(states, alphabet, transitions, s, new HashSet<>(finales));
     }
     
     private Fragment build(Node node,
@@ -73,6 +106,10 @@ public class ThompsonConstructor {
             return buildQuestion(q.node(), trans, states, alphabet);
         }
         
+        if (node instanceof Repeat rep) {
+            return buildRepeat(rep, trans, states, alphabet);
+        }
+        
         throw new RuntimeException("Nodo desconocido: " + node.getClass());
     }
     
@@ -90,10 +127,15 @@ public class ThompsonConstructor {
         String e = newState();
         states.add(s);
         states.add(e);
-        alphabet.add(c);
+        
+        // El parser usa '\0' para ε (a?, {0})
+        Character simbolo = c == '\0' ? null : c;
+        if (simbolo != null) {
+            alphabet.add(c);
+        }
         
         trans.computeIfAbsent(s, k -> new HashMap<>())
-             .computeIfAbsent(c, k -> new HashSet<>())
+             .computeIfAbsent(simbolo, k -> new HashSet<>())
              .add(e);
         
         return new Fragment(s, e);
@@ -266,4 +308,61 @@ public class ThompsonConstructor {
         
         return new Fragment(s, e);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Construcción para repetición: a{min,max}
+     * Se encadenan min copias obligatorias y luego max - min opcionales, cada
+     * una con ε directo al final, o una estrella si no hay máximo. El tamaño
+     * es lineal en max (no se genera una alternativa por cada cantidad).
+     * 
+     *      ε          ε              ε           ε
+     * s ---> a ---> ... ---> a (min) ---> a ---> ... ---> e
+     *                            │         │              ↑
+     *                            └----ε----┴------ε-------┘
+     */
+    private Fragment buildRepeat(Repeat rep,
+                                 Map<String, Map<Character, Set<String>>> trans,
+                                 Set<String> states,
+                                 Set<Character> alphabet) {
+        String s = newState();
+        String e = newState();
+        states.add(s);
+        states.add(e);
+        
+        // Fin de la parte ya construida
+        String actual = s;
+        for (int i = 0; i < rep.min(); i++) {
+            actual = enlazar(actual, build(rep.node(), trans, states, alphabet), trans);
+        }
+        
+        if (rep.max() == Repeat.SIN_LIMITE) {
+            Fragment estrella = buildStar(rep.node(), trans, states, alphabet);
+            actual = enlazar(actual, estrella, trans);
+        } else {
+            for (int i = rep.min(); i < rep.max(); i++) {
+                trans.computeIfAbsent(actual, k -> new HashMap<>())
+                     .computeIfAbsent(null, k -> new HashSet<>())
+                     .add(e);
+                actual = enlazar(actual, build(rep.node(), trans, states, alphabet), trans);
+            }
+        }
+        
+        trans.computeIfAbsent(actual, k -> new HashMap<>())
+             .computeIfAbsent(null, k -> new HashSet<>())
+             .add(e);
+        
+        return new Fragment(s, e);
+    }
+    
+    /**
+     * Conecta con ε el estado {@code desde} al inicio del fragmento y devuelve
+     * su final.
+     */
+    private String enlazar(String desde, Fragment f,
+                           Map<String, Map<Character, Set<String>>> trans) {
+        trans.computeIfAbsent(desde, k -> new HashMap<>())
+             .computeIfAbsent(null, k -> new HashSet<>())
+             .add(f.start);
+        return f.end;
+    }
+}
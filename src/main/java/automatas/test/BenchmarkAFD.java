@@ -0,0 +1,131 @@
+package automatas.test;
+
+import automatas.core.AFD;
+import automatas.core.AFDCompilado;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Comparación entre el recorrido por mapas del AFD (implementación anterior
+ * de {@code AFD.acepta}) y la tabla densa de {@link AFDCompilado}.
+ *
+ * Se generan AFDs completos aleatorios y cadenas aleatorias sobre su alfabeto;
+ * cada variante se calienta antes de medir para que el JIT compile ambos caminos.
+ */
+public class BenchmarkAFD {
+
+    private static final int CALENTAMIENTO = 5;
+    private static final int MEDICIONES = 10;
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK AFD: mapas vs tabla compilada ===\n");
+
+        int[][] configuraciones = {
+            // {estados, símbolos, longitud de cadena, cantidad de cadenas}
+            {10, 2, 64, 20000},
+            {200, 4, 256, 5000},
+            {5000, 26, 1024, 1000}
+        };
+
+        for (int[] config : configuraciones) {
+            ejecutar(config[0], config[1], config[2], config[3]);
+        }
+    }
+
+    private static void ejecutar(int numEstados, int numSimbolos, int longitud, int cantidad) {
+        Random random = new Random(42);
+        AFD afd = generarAFD(numEstados, numSimbolos, random);
+        String[] cadenas = generarCadenas(numSimbolos, longitud, cantidad, random);
+        AFDCompilado compilado = afd.compilar();
+
+        // Verificar que ambas variantes coinciden antes de medir
+        for (String cadena : cadenas) {
+            if (aceptaConMapas(afd, cadena) != compilado.acepta(cadena)) {
+                throw new IllegalStateException("Resultados distintos para: " + cadena);
+            }
+        }
+
+        long caracteres = (long) longitud * cantidad;
+        double nsMapas = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String cadena : cadenas) {
+                if (aceptaConMapas(afd, cadena)) aceptadas++;
+            }
+            return aceptadas;
+        }) / caracteres;
+        double nsTabla = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String cadena : cadenas) {
+                if (compilado.acepta(cadena)) aceptadas++;
+            }
+            return aceptadas;
+        }) / caracteres;
+
+        System.out.printf("Estados=%d, |Σ|=%d, longitud=%d, cadenas=%d%n",
+                numEstados, numSimbolos, longitud, cantidad);
+        System.out.printf("  Mapas:  %.2f ns/símbolo%n", nsMapas);
+        System.out.printf("  Tabla:  %.2f ns/símbolo%n", nsTabla);
+        System.out.printf("  Mejora: %.1fx%n%n", nsMapas / nsTabla);
+    }
+
+    /**
+     * Devuelve el mejor tiempo (ns) de varias mediciones tras el calentamiento.
+     */
+    /**
+     * Implementación original de AFD.acepta sobre los mapas de transición.
+     */
+    private static boolean aceptaConMapas(AFD afd, String cadena) {
+        Map<String, Map<Character, String>> transiciones = afd.getTransiciones();
+        String estadoActual = afd.getEstadoInicial();
+        for (char simbolo : cadena.toCharArray()) {
+            if (!transiciones.containsKey(estadoActual)) {
+                return false;
+            }
+            Map<Character, String> mapa = transiciones.get(estadoActual);
+            if (!mapa.containsKey(simbolo)) {
+                return false;
+            }
+            estadoActual = mapa.get(simbolo);
+        }
+        return afd.getEstadosFinales().contains(estadoActual);
+    }
+
+    private static AFD generarAFD(int numEstados, int numSimbolos, Random random) {
+        Set<String> estados = new HashSet<>();
+        Set<Character> alfabeto = new HashSet<>();
+        Set<String> finales = new HashSet<>();
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+
+        for (int s = 0; s < numSimbolos; s++) {
+            alfabeto.add((char) ('a' + s));
+        }
+        for (int i = 0; i < numEstados; i++) {
+            String estado = "q" + i;
+            estados.add(estado);
+            if (random.nextInt(3) == 0) {
+                finales.add(estado);
+            }
+            Map<Character, String> trans = new HashMap<>();
+            for (char c : alfabeto) {
+                trans.put(c, "q" + random.nextInt(numEstados));
+            }
+            transiciones.put(estado, trans);
+        }
+        return new AFD(estados, alfabeto, transiciones, "q0", finales);
+    }
+
+    private static String[] generarCadenas(int numSimbolos, int longitud, int cantidad, Random random) {
+        String[] cadenas = new String[cantidad];
+        char[] buffer = new char[longitud];
+        for (int i = 0; i < cantidad; i++) {
+            for (int j = 0; j < longitud; j++) {
+                buffer[j] = (char) ('a' + random.nextInt(numSimbolos));
+            }
+            cadenas[i] = new String(buffer);
+        }
+        return cadenas;
+    }
+}
@@ -0,0 +1,73 @@
+package automatas.test;
+
+import automatas.core.AFDPerezoso;
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Comparación entre la simulación por bits del AFND y el AFD perezoso sobre
+ * AFNDs de Thompson. El último caso usa una caché diminuta para forzar vaciados
+ * y mostrar el paso a simulación cuando la caché no da abasto.
+ */
+public class BenchmarkAFND {
+
+    private static final int CALENTAMIENTO = 5;
+    private static final int MEDICIONES = 10;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== BENCHMARK AFND: simulación por bits vs AFD perezoso ===\n");
+
+        ejecutar("(a|b)*abb", 2, AFDPerezoso.CAPACIDAD_POR_DEFECTO);
+        ejecutar("(ab|ba|aab|bba)*(a|b)", 2, AFDPerezoso.CAPACIDAD_POR_DEFECTO);
+        ejecutar("(a|b|c)*a(a|b|c){6}", 3, AFDPerezoso.CAPACIDAD_POR_DEFECTO);
+        ejecutar("(a|b|c)*a(a|b|c){6}", 3, 16);
+    }
+
+    private static void ejecutar(String regex, int numSimbolos, int capacidad) throws IOException {
+        AFND afnd = new ThompsonConstructor().convert(new RegexParser(regex).parse());
+        AFNDCompilado compilado = afnd.compilar();
+        AFDPerezoso perezoso = new AFDPerezoso(compilado, capacidad);
+
+        Random random = new Random(7);
+        String[] cadenas = new String[2000];
+        char[] buffer = new char[512];
+        for (int i = 0; i < cadenas.length; i++) {
+            for (int j = 0; j < buffer.length; j++) {
+                buffer[j] = (char) ('a' + random.nextInt(numSimbolos));
+            }
+            cadenas[i] = new String(buffer);
+        }
+
+        for (String cadena : cadenas) {
+            if (compilado.acepta(cadena) != perezoso.acepta(cadena)) {
+                throw new IllegalStateException("Resultados distintos para: " + regex);
+            }
+        }
+
+        long caracteres = (long) buffer.length * cadenas.length;
+        double nsBits = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String cadena : cadenas) {
+                if (compilado.acepta(cadena)) aceptadas++;
+            }
+            return aceptadas;
+        }) / caracteres;
+        double nsPerezoso = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String cadena : cadenas) {
+                if (perezoso.acepta(cadena)) aceptadas++;
+            }
+            return aceptadas;
+        }) / caracteres;
+
+        System.out.printf("Regex=%s, estados AFND=%d, capacidad=%d%n",
+                regex, compilado.getNumEstados(), capacidad);
+        System.out.printf("  Bits:     %.2f ns/símbolo%n", nsBits);
+        System.out.printf("  Perezoso: %.2f ns/símbolo (estados creados=%d, vaciados=%d, simulaciones=%d)%n%n",
+                nsPerezoso, perezoso.getEstadosCreados(), perezoso.getVaciados(), perezoso.getSimulaciones());
+    }
+}
@@ -0,0 +1,63 @@
+package automatas.test;
+
+import automatas.algoritmos.Brzozowski;
+import automatas.algoritmos.Conversion;
+import automatas.algoritmos.Minimizacion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+
+/**
+ * Compara los dos caminos de AFND (Thompson) a AFD mínimo:
+ * Conversion → Minimizacion contra Brzozowski, e indica el más barato para
+ * cada familia.
+ */
+public class BenchmarkBrzozowski {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK Conversion+Minimizacion vs Brzozowski ===\n");
+
+        String[] familias = {
+            // Subconjuntos explota y el mínimo tiene un estado
+            "(a|b)*a(a|b){%d}|(a|b)*",
+            // El reverso es el que explota
+            "(a|b){%d}a(a|b)*",
+            // Mínimo exponencial: ambos caminos terminan construyéndolo
+            "(a|b)*a(a|b){%d}"
+        };
+        for (String familia : familias) {
+            for (int k : new int[]{8, 12, 14}) {
+                comparar(String.format(familia, k));
+            }
+            System.out.println();
+        }
+    }
+
+    private static void comparar(String regex) throws Exception {
+        AFND afnd = new ThompsonConstructor().construir(new RegexParser(regex).parse());
+
+        long inicio = System.nanoTime();
+        Conversion conversion = new Conversion(afnd);
+        conversion.setGuardarCSV(false);
+        AFD determinizado = conversion.convertir();
+        AFD minimoClasico = new Minimizacion(determinizado).minimizar();
+        double msClasico = (System.nanoTime() - inicio) / 1e6;
+
+        inicio = System.nanoTime();
+        Brzozowski brzozowski = new Brzozowski(afnd);
+        AFD minimoBrzozowski = brzozowski.minimizar();
+        double msBrzozowski = (System.nanoTime() - inicio) / 1e6;
+
+        if (minimoClasico.getEstados().size() != minimoBrzozowski.getEstados().size()) {
+            throw new IllegalStateException("Tamaños mínimos distintos para " + regex);
+        }
+
+        System.out.printf("%-26s mínimo=%-6d clásico %8.1f ms (intermedio %6d)  "
+                        + "Brzozowski %8.1f ms (intermedio %6d)  -> %s%n",
+                regex, minimoClasico.getEstados().size(),
+                msClasico, determinizado.getEstados().size(),
+                msBrzozowski, brzozowski.getIntermedio().getEstados().size(),
+                msClasico <= msBrzozowski ? "clásico" : "Brzozowski");
+    }
+}
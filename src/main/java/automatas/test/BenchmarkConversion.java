@@ -0,0 +1,55 @@
+package automatas.test;
+
+import automatas.algoritmos.Conversion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.Random;
+
+/**
+ * Compara las implementaciones de {@link Conversion} (conjuntos de nombres
+ * contra bits) en tiempo y memoria asignada, sobre AFNDs de Thompson para
+ * (a|b|c|d)*(w1|...|wn) con n palabras al azar de longitud 8. La memoria es
+ * la asignada por el hilo principal, así que en PARALELO no cuenta la de las
+ * tareas del pool.
+ */
+public class BenchmarkConversion {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK CONVERSIÓN AFND -> AFD ===\n");
+
+        for (int numPalabras : new int[]{50, 200, 500}) {
+            AFND afnd = new ThompsonConstructor().construir(new RegexParser(regex(numPalabras)).parse());
+            System.out.printf("%d palabras: AFND de %d estados%n", numPalabras, afnd.getEstados().size());
+
+            for (Conversion.Algoritmo algoritmo : Conversion.Algoritmo.values()) {
+                Conversion conversion = new Conversion(afnd);
+                conversion.setGuardarCSV(false);
+                conversion.setAlgoritmo(algoritmo);
+                // La forma compilada se cachea en el AFND: se cuenta en la primera medición de BITS
+                long bytes = MedidorAsignacion.bytesAsignados();
+                long inicio = System.nanoTime();
+                AFD afd = conversion.convertir();
+                long tiempo = System.nanoTime() - inicio;
+                bytes = MedidorAsignacion.bytesAsignados() - bytes;
+                System.out.printf("  %-8s %9.1f ms %9.1f MB asignados -> %d estados%n",
+                        algoritmo, tiempo / 1e6, bytes / 1e6, afd.getEstados().size());
+            }
+        }
+    }
+
+    private static String regex(int numPalabras) {
+        Random random = new Random(8);
+        StringBuilder sb = new StringBuilder("(a|b|c|d)*(");
+        for (int i = 0; i < numPalabras; i++) {
+            if (i > 0) {
+                sb.append('|');
+            }
+            for (int j = 0; j < 8; j++) {
+                sb.append((char) ('a' + random.nextInt(4)));
+            }
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -0,0 +1,74 @@
+package automatas.test;
+
+import automatas.algoritmos.Conversion;
+import automatas.algoritmos.Minimizacion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.ConstructorDerivadas;
+import automatas.regex.LanguageParser;
+import automatas.regex.RegexAST.Node;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+
+/**
+ * Compara regex → Thompson → Conversion → Minimizacion contra la construcción
+ * directa por derivadas, en tiempo, memoria asignada y estados del AFD
+ * obtenido. La columna "mínimo" es el tamaño tras minimizar el AFD de
+ * derivadas, para ver qué tan cerca queda.
+ */
+public class BenchmarkDerivadas {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK Derivadas vs Thompson+Conversion+Minimizacion ===\n");
+
+        String[][] lenguajes = {
+            {"0^n 1^m", "n es par, m >= 0"},
+            {"a^n b^m c^k", "n es par, m >= 1, k <= 3"},
+            {"a^n b^m", "n >= 20, m <= 30"},
+            {"a^n b^m c^k", "n = 12, m es impar, k >= 5"}
+        };
+        // La primera ronda solo calienta el JIT
+        for (int ronda = 0; ronda < 2; ronda++) {
+            boolean imprimir = ronda == 1;
+            for (String[] lenguaje : lenguajes) {
+                comparar(new LanguageParser(lenguaje[0], lenguaje[1]).parse(), imprimir);
+            }
+            for (String regex : new String[]{"(a|b)*abb", "(a|b)*a(a|b){10}", "((a|b|c)*(abc|cab)(a|b|c)*){3}"}) {
+                comparar(regex, imprimir);
+            }
+        }
+    }
+
+    private static void comparar(String regex, boolean imprimir) throws Exception {
+        Node ast = new RegexParser(regex).parse();
+
+        long bytes = MedidorAsignacion.bytesAsignados();
+        long inicio = System.nanoTime();
+        AFND afnd = new ThompsonConstructor().construir(ast);
+        Conversion conversion = new Conversion(afnd);
+        conversion.setGuardarCSV(false);
+        AFD minimo = new Minimizacion(conversion.convertir()).minimizar();
+        double msClasico = (System.nanoTime() - inicio) / 1e6;
+        double mbClasico = (MedidorAsignacion.bytesAsignados() - bytes) / 1e6;
+
+        bytes = MedidorAsignacion.bytesAsignados();
+        inicio = System.nanoTime();
+        AFD derivadas = new ConstructorDerivadas().construir(ast);
+        double msDerivadas = (System.nanoTime() - inicio) / 1e6;
+        double mbDerivadas = (MedidorAsignacion.bytesAsignados() - bytes) / 1e6;
+
+        int tamanoMinimo = new Minimizacion(derivadas).minimizar().getEstados().size();
+        if (tamanoMinimo != minimo.getEstados().size()) {
+            throw new IllegalStateException("Lenguajes distintos para " + regex);
+        }
+
+        if (!imprimir) {
+            return;
+        }
+        System.out.printf("%-40s clásico %8.1f ms %7.1f MB  derivadas %8.1f ms %7.1f MB  "
+                        + "estados %5d (mínimo %d)%n",
+                regex.length() > 40 ? regex.substring(0, 37) + "..." : regex,
+                msClasico, mbClasico, msDerivadas, mbDerivadas,
+                derivadas.getEstados().size(), tamanoMinimo);
+    }
+}
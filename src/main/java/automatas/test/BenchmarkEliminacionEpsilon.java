@@ -0,0 +1,66 @@
+package automatas.test;
+
+import automatas.algoritmos.EliminacionEpsilon;
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tamaño de los AFND de Thompson antes y después de eliminar las transiciones
+ * ε, y tiempo de simulación y determinización sobre cada uno.
+ */
+public class BenchmarkEliminacionEpsilon {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK Eliminación de ε ===\n");
+
+        String[] expresiones = {
+            "(a|b)*abb",
+            "((a|b)(a|b))*(a|b)",
+            "(ab|ba|aa)*(b|a)?(ab)*",
+            "(a|b)*a(a|b){10}",
+            "((a|b|c)*(abc|cab)(a|b|c)*){3}"
+        };
+        for (String regex : expresiones) {
+            comparar(regex);
+        }
+    }
+
+    private static void comparar(String regex) throws Exception {
+        AFND thompson = new ThompsonConstructor().construir(new RegexParser(regex).parse());
+
+        long inicio = System.nanoTime();
+        AFND sinEpsilon = new EliminacionEpsilon(thompson).eliminar();
+        double msEliminacion = (System.nanoTime() - inicio) / 1e6;
+
+        AFNDCompilado antes = thompson.compilar();
+        AFNDCompilado despues = sinEpsilon.compilar();
+        String[] cadenas = MedidorAFND.generar(new Random(42));
+        for (String c : cadenas) {
+            if (antes.acepta(c) != despues.acepta(c)) {
+                throw new IllegalStateException("Resultados distintos para " + regex + " con " + c);
+            }
+        }
+
+        System.out.printf("%-34s estados %5d -> %-5d transiciones %5d -> %-5d (%.1f ms)%n",
+                regex, thompson.getEstados().size(), sinEpsilon.getEstados().size(),
+                contarTransiciones(thompson), contarTransiciones(sinEpsilon), msEliminacion);
+        System.out.printf("%34s simulación %8.1f ms -> %8.1f ms   subconjuntos %7.1f ms -> %7.1f ms%n",
+                "", MedidorAFND.simular(antes, cadenas), MedidorAFND.simular(despues, cadenas),
+                MedidorAFND.determinizar(antes), MedidorAFND.determinizar(despues));
+    }
+
+    private static int contarTransiciones(AFND afnd) {
+        int total = 0;
+        for (Map<Character, Set<String>> trans : afnd.getTransiciones().values()) {
+            for (Set<String> destinos : trans.values()) {
+                total += destinos.size();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+package automatas.test;
+
+import automatas.algoritmos.Determinizador;
+import automatas.algoritmos.Equivalencia;
+import automatas.algoritmos.Minimizacion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.ConstructorDerivadas;
+import automatas.regex.GlushkovConstructor;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+
+/**
+ * Compara {@link Equivalencia} (HKC sobre los AFND y Hopcroft–Karp sobre los
+ * AFD) con determinizar y minimizar ambos lados, sobre pares de expresiones
+ * equivalentes y pares que difieren.
+ */
+public class BenchmarkEquivalencia {
+
+    private static final int REPETICIONES = 5;
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK Equivalencia de lenguajes ===\n");
+
+        String[][] pares = {
+            {"(a|b)*abb", "(a|b)*abb"},
+            {"(a|b)*abb", "(a|b)*ab(b|a)"},
+            {"(a*b*)*", "(a|b)*"},
+            {"(a|b)*a(a|b){10}", "(b*a(a|b){10})+|(b|a)*a(a|b){10}"},
+            {"(a|b)*a(a|b){10}", "(a|b)*a(a|b){11}"},
+            {"(a|b)*a(a|b){14}", "(a|b)*a(a|b){14}"},
+            {"(ab|ba)*(a|b){0,12}", "(ab|ba)*(a|b){0,12}"},
+            {"(abc|acb|bac)*", "(abc|acb|bac)*(abc)?"}
+        };
+        for (String[] par : pares) {
+            AFND thompsonA = new ThompsonConstructor().construir(new RegexParser(par[0]).parse());
+            AFND thompsonB = new ThompsonConstructor().construir(new RegexParser(par[1]).parse());
+            AFND glushkovB = new GlushkovConstructor().construir(new RegexParser(par[1]).parse());
+            AFD derivadasA = new ConstructorDerivadas().construir(new RegexParser(par[0]).parse());
+            AFD derivadasB = new ConstructorDerivadas().construir(new RegexParser(par[1]).parse());
+
+            Equivalencia.Veredicto veredicto = null;
+            long inicio = System.nanoTime();
+            for (int i = 0; i < REPETICIONES; i++) {
+                veredicto = Equivalencia.equivalentes(thompsonA, glushkovB);
+            }
+            double msHkc = (System.nanoTime() - inicio) / 1e6 / REPETICIONES;
+
+            inicio = System.nanoTime();
+            for (int i = 0; i < REPETICIONES; i++) {
+                Equivalencia.equivalentes(derivadasA, derivadasB);
+            }
+            double msHk = (System.nanoTime() - inicio) / 1e6 / REPETICIONES;
+
+            // Referencia: AFD mínimos de ambos lados
+            int minimoA = 0;
+            int minimoB = 0;
+            inicio = System.nanoTime();
+            for (int i = 0; i < REPETICIONES; i++) {
+                minimoA = minimo(thompsonA).getEstados().size();
+                minimoB = minimo(thompsonB).getEstados().size();
+            }
+            double msMinimizar = (System.nanoTime() - inicio) / 1e6 / REPETICIONES;
+
+            String resultado = veredicto.cumple() ? "equivalentes" : "difieren en \"" + veredicto.contraejemplo() + "\"";
+            System.out.printf("%-22s vs %-36s %-28s HKC %8.2f ms  HK %8.2f ms  minimizar %9.2f ms (%d/%d estados)%n",
+                    par[0], par[1], resultado, msHkc, msHk, msMinimizar, minimoA, minimoB);
+        }
+    }
+
+    private static AFD minimo(AFND afnd) {
+        return new Minimizacion(new Determinizador(afnd.compilar()).aAFD()).minimizar();
+    }
+}
@@ -0,0 +1,55 @@
+package automatas.test;
+
+import automatas.algoritmos.Determinizador;
+import automatas.algoritmos.EstimadorTamano;
+import automatas.algoritmos.ExplosionEstadosException;
+import automatas.core.AFND;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+
+/**
+ * Compara la estimación de {@link EstimadorTamano} con el tamaño real del AFD
+ * (construido con un presupuesto de dos millones de estados) y el tiempo de
+ * cada uno.
+ */
+public class BenchmarkEstimador {
+
+    private static final Determinizador.Limites LIMITES =
+            new Determinizador.Limites(2_000_000, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK Estimador de tamaño del AFD ===\n");
+
+        String[] expresiones = {
+            "(a|b)*abb",
+            "(a|b|c)*(abc|cab)(a|b|c)*",
+            "a{20,}b{0,30}",
+            "(a|b)*a(a|b){8}",
+            "(a|b)*a(a|b){14}",
+            "(a|b)*a(a|b){18}",
+            "(a|b)*a(a|b){24}",
+            "(a|b|c|d)*(abcd|dcba|acbd)(a|b|c|d){6}"
+        };
+        for (String regex : expresiones) {
+            AFND afnd = new ThompsonConstructor().construir(new RegexParser(regex).parse());
+
+            long inicio = System.nanoTime();
+            EstimadorTamano.Estimacion estimacion = new EstimadorTamano(afnd).estimar();
+            double msEstimacion = (System.nanoTime() - inicio) / 1e6;
+
+            inicio = System.nanoTime();
+            String real;
+            try {
+                real = String.valueOf(new Determinizador(afnd.compilar(), false, LIMITES).getNumEstados());
+            } catch (ExplosionEstadosException e) {
+                real = "> " + LIMITES.estados();
+            }
+            double msReal = (System.nanoTime() - inicio) / 1e6;
+
+            System.out.printf("%-40s estimado %10d %-22s %7.1f ms   real %10s %9.1f ms%n",
+                    regex, estimacion.estados(),
+                    "(" + estimacion.confianza() + ", " + estimacion.motor() + ")",
+                    msEstimacion, real, msReal);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package automatas.test;
+
+import automatas.core.AFND;
+import automatas.core.AFNDCompilado;
+import automatas.regex.GlushkovConstructor;
+import automatas.regex.RegexAST.Node;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.Random;
+
+/**
+ * Compara los AFND de Thompson y de Glushkov para las mismas expresiones:
+ * número de estados, tiempo de simulación por bits y tiempo de la
+ * construcción por subconjuntos.
+ */
+public class BenchmarkGlushkov {
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK Thompson vs Glushkov ===\n");
+
+        String[] expresiones = {
+            "(a|b)*abb",
+            "(ab|ba|aa)*(b|a)?(ab)*",
+            "(a|b)*a(a|b){12}",
+            "((a|b|c)*(abc|cab)(a|b|c)*){3}",
+            "(a|b|c){5,20}c"
+        };
+        String[] cadenas = MedidorAFND.generar(new Random(42));
+        for (String regex : expresiones) {
+            Node ast = new RegexParser(regex).parse();
+            AFND thompson = new ThompsonConstructor().construir(ast);
+            AFND glushkov = new GlushkovConstructor().construir(ast);
+            AFNDCompilado t = thompson.compilar();
+            AFNDCompilado g = glushkov.compilar();
+            for (String c : cadenas) {
+                if (t.acepta(c) != g.acepta(c)) {
+                    throw new IllegalStateException("Resultados distintos para " + regex + " con " + c);
+                }
+            }
+
+            System.out.printf("%-32s estados %5d vs %-5d simulación %8.1f vs %8.1f ms"
+                            + "   subconjuntos %7.1f vs %7.1f ms%n",
+                    regex, t.getNumEstados(), g.getNumEstados(),
+                    MedidorAFND.simular(t, cadenas), MedidorAFND.simular(g, cadenas),
+                    MedidorAFND.determinizar(t), MedidorAFND.determinizar(g));
+        }
+    }
+}
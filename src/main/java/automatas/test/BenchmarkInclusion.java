@@ -0,0 +1,71 @@
+package automatas.test;
+
+import automatas.algoritmos.Determinizador;
+import automatas.algoritmos.Equivalencia;
+import automatas.algoritmos.ExplosionEstadosException;
+import automatas.algoritmos.Inclusion;
+import automatas.core.AFND;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.Random;
+
+/**
+ * Mide {@link Inclusion} sobre AFND de Thompson de cientos de estados
+ * (conjuntos de reglas y anticipaciones largas) frente al costo de solo
+ * determinizar B, que es lo que exigiría el método clásico.
+ */
+public class BenchmarkInclusion {
+
+    private static final Determinizador.Limites LIMITES =
+            new Determinizador.Limites(1_000_000, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK Inclusión de lenguajes ===\n");
+
+        // Reglas: palabras al azar; las nuevas agregan reglas y generalizan una
+        Random random = new Random(42);
+        String[] palabras = new String[80];
+        for (int i = 0; i < palabras.length; i++) {
+            StringBuilder sb = new StringBuilder();
+            int largo = 4 + random.nextInt(6);
+            for (int j = 0; j < largo; j++) {
+                sb.append((char) ('a' + random.nextInt(6)));
+            }
+            palabras[i] = sb.toString();
+        }
+        String viejas = String.join("|", palabras);
+        String nuevas = viejas + "|" + palabras[0] + "(a|b|c|d|e|f)*|abcabc";
+        String faltante = String.join("|", java.util.Arrays.copyOfRange(palabras, 1, palabras.length));
+
+        String[][] casos = {
+            {viejas, nuevas},
+            {nuevas, viejas},
+            {viejas, faltante},
+            {"(a|b)*a(a|b){12}", "(a|b)*a(a|b){12}|(a|b)*b(a|b){12}"},
+            {"(a|b)*a(a|b){16}", "(a|b)*(a|b)(a|b){16}"},
+            {"(a|b)*a(a|b){18}", "(a|b)*a(a|b){17}"},
+            {"((a|b)*a(a|b){10}){2}", "(a|b)*a(a|b){10}(a|b)*"}
+        };
+        for (String[] caso : casos) {
+            AFND a = new ThompsonConstructor().construir(new RegexParser(caso[0]).parse());
+            AFND b = new ThompsonConstructor().construir(new RegexParser(caso[1]).parse());
+
+            long inicio = System.nanoTime();
+            Equivalencia.Veredicto veredicto = Inclusion.incluido(a, b);
+            double msInclusion = (System.nanoTime() - inicio) / 1e6;
+
+            inicio = System.nanoTime();
+            String afdB;
+            try {
+                afdB = String.valueOf(new Determinizador(b.compilar(), false, LIMITES).getNumEstados());
+            } catch (ExplosionEstadosException e) {
+                afdB = "> " + LIMITES.estados();
+            }
+            double msDeterminizar = (System.nanoTime() - inicio) / 1e6;
+
+            String resultado = veredicto.cumple() ? "incluido" : "no incluido: \"" + veredicto.contraejemplo() + "\"";
+            System.out.printf("A %4d estados, B %4d estados  %-34s %9.2f ms   AFD de B %10s estados %9.2f ms%n",
+                    a.getEstados().size(), b.getEstados().size(), resultado, msInclusion, afdB, msDeterminizar);
+        }
+    }
+}
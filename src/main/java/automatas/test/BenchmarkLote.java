@@ -0,0 +1,66 @@
+package automatas.test;
+
+import automatas.algoritmos.Conversion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.core.Automata;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara un ciclo secuencial de {@code acepta} contra {@code aceptaTodas}
+ * sobre una lista grande de palabras, para AFD y AFND.
+ */
+public class BenchmarkLote {
+
+    private static final int CALENTAMIENTO = 3;
+    private static final int MEDICIONES = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK aceptaTodas vs acepta secuencial ===");
+        System.out.println("Núcleos: " + Runtime.getRuntime().availableProcessors() + "\n");
+
+        AFND afnd = new ThompsonConstructor().convert(new RegexParser("(a|b|c)*a(a|b|c){6}").parse());
+        Conversion conversion = new Conversion(afnd);
+        AFD afd = conversion.convertir();
+
+        Random random = new Random(11);
+        List<String> palabras = new ArrayList<>();
+        char[] buffer = new char[256];
+        for (int i = 0; i < 200_000; i++) {
+            for (int j = 0; j < buffer.length; j++) {
+                buffer[j] = (char) ('a' + random.nextInt(3));
+            }
+            palabras.add(new String(buffer));
+        }
+
+        ejecutar("AFD", afd, palabras);
+        ejecutar("AFND", afnd, palabras);
+    }
+
+    private static void ejecutar(String nombre, Automata automata, List<String> palabras) {
+        BitSet esperado = new BitSet();
+        for (int i = 0; i < palabras.size(); i++) {
+            esperado.set(i, automata.acepta(palabras.get(i)));
+        }
+        if (!esperado.equals(automata.aceptaTodas(palabras))) {
+            throw new IllegalStateException("Resultados distintos en " + nombre);
+        }
+
+        double msSecuencial = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String p : palabras) {
+                if (automata.acepta(p)) aceptadas++;
+            }
+            return aceptadas;
+        }) / 1e6;
+        double msLote = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> automata.aceptaTodas(palabras).cardinality()) / 1e6;
+
+        System.out.printf("%s: secuencial %.1f ms, aceptaTodas %.1f ms (%.1fx)%n",
+                nombre, msSecuencial, msLote, msSecuencial / msLote);
+    }
+}
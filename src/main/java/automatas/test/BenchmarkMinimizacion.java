@@ -0,0 +1,85 @@
+package automatas.test;
+
+import automatas.algoritmos.Conversion;
+import automatas.algoritmos.Minimizacion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tiempo de minimización por algoritmo sobre AFDs de {@link Conversion} para
+ * (a|b)*a(a|b){k}, cuyo AFD tiene 2^(k+1) estados. El algoritmo de
+ * subgrupos solo se corre en los tamaños chicos. El último caso es un trie
+ * de palabras sobre 26 letras: muchos estados con muy pocas transiciones, donde
+ * completar el AFD con un sumidero multiplica el trabajo de Hopcroft.
+ */
+public class BenchmarkMinimizacion {
+
+    private static final int LIMITE_SUBGRUPOS = 5_000;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK MINIMIZACIÓN ===\n");
+
+        for (int k : new int[]{6, 10, 12, 16}) {
+            String regex = "(a|b)*a(a|b){" + k + "}";
+            AFND afnd = new ThompsonConstructor().construir(new RegexParser(regex).parse());
+            Conversion conversion = new Conversion(afnd);
+            conversion.setGuardarCSV(false);
+            medir(regex, conversion.convertir());
+        }
+        medir("trie de 20000 palabras", trie(20_000, 10));
+    }
+
+    private static void medir(String nombre, AFD afd) {
+        System.out.printf("%s: %d estados%n", nombre, afd.getEstados().size());
+        for (Minimizacion.Algoritmo algoritmo : Minimizacion.Algoritmo.values()) {
+            if (algoritmo == Minimizacion.Algoritmo.SUBGRUPOS
+                    && afd.getEstados().size() > LIMITE_SUBGRUPOS) {
+                System.out.printf("  %-10s (omitido)%n", algoritmo);
+                continue;
+            }
+            Minimizacion minimizacion = new Minimizacion(afd);
+            minimizacion.setAlgoritmo(algoritmo);
+            long inicio = System.nanoTime();
+            AFD minimo = minimizacion.minimizar();
+            long tiempo = System.nanoTime() - inicio;
+            System.out.printf("  %-10s %8.1f ms -> %d estados%n",
+                    algoritmo, tiempo / 1e6, minimo.getEstados().size());
+        }
+    }
+
+    /**
+     * AFD trie de palabras aleatorias; los sufijos comunes se fusionan al minimizar.
+     */
+    private static AFD trie(int numPalabras, int longitud) {
+        Random random = new Random(3);
+        Set<Character> alfabeto = new HashSet<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            alfabeto.add(c);
+        }
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        Set<String> finales = new HashSet<>();
+        transiciones.put("t0", new HashMap<>());
+        for (int i = 0; i < numPalabras; i++) {
+            String estado = "t0";
+            for (int j = 0; j < longitud; j++) {
+                char c = (char) ('a' + random.nextInt(26));
+                String siguiente = transiciones.get(estado).get(c);
+                if (siguiente == null) {
+                    siguiente = "t" + transiciones.size();
+                    transiciones.get(estado).put(c, siguiente);
+                    transiciones.put(siguiente, new HashMap<>());
+                }
+                estado = siguiente;
+            }
+            finales.add(estado);
+        }
+        return new AFD(new HashSet<>(transiciones.keySet()), alfabeto, transiciones, "t0", finales);
+    }
+}
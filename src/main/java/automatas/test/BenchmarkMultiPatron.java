@@ -0,0 +1,88 @@
+package automatas.test;
+
+import automatas.core.AFND;
+import automatas.regex.MultiPatron;
+import automatas.regex.RegexAST.Node;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara evaluar N patrones por separado (un AFND por patrón) contra una
+ * sola pasada con {@link MultiPatron}, para distintos valores de N.
+ */
+public class BenchmarkMultiPatron {
+
+    private static final int CALENTAMIENTO = 3;
+    private static final int MEDICIONES = 5;
+
+    public static void main(String[] args) {
+        System.out.println("=== BENCHMARK MultiPatron vs un AFND por patrón ===\n");
+
+        Random random = new Random(5);
+        List<String> cadenas = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            cadenas.add(palabra(random, 64));
+        }
+
+        for (int n : new int[]{4, 16, 64}) {
+            ejecutar(n, random, cadenas);
+        }
+    }
+
+    private static void ejecutar(int numPatrones, Random random, List<String> cadenas) {
+        List<Node> patrones = new ArrayList<>();
+        List<AFND> separados = new ArrayList<>();
+        for (int i = 0; i < numPatrones; i++) {
+            // Prefijo fijo seguido de cualquier cosa, o cualquier cosa y un sufijo fijo
+            String regex = i % 2 == 0
+                    ? palabra(random, 4) + "(a|b|c)*"
+                    : "(a|b|c)*" + palabra(random, 3);
+            Node nodo = new RegexParser(regex).parse();
+            patrones.add(nodo);
+            separados.add(new ThompsonConstructor().construir(nodo));
+        }
+        MultiPatron multi = new MultiPatron(patrones);
+
+        for (String cadena : cadenas) {
+            BitSet esperado = new BitSet();
+            for (int i = 0; i < numPatrones; i++) {
+                esperado.set(i, separados.get(i).acepta(cadena));
+            }
+            if (!esperado.equals(multi.coincidencias(cadena))) {
+                throw new IllegalStateException("Resultados distintos para: " + cadena);
+            }
+        }
+
+        double msSeparados = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int total = 0;
+            for (String cadena : cadenas) {
+                for (AFND afnd : separados) {
+                    if (afnd.acepta(cadena)) total++;
+                }
+            }
+            return total;
+        }) / 1e6;
+        double msMulti = MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int total = 0;
+            for (String cadena : cadenas) {
+                total += multi.coincidencias(cadena).cardinality();
+            }
+            return total;
+        }) / 1e6;
+
+        System.out.printf("N=%d (estados AFD combinado=%d): separados %.1f ms, combinado %.1f ms%n",
+                numPatrones, multi.getNumEstados(), msSeparados, msMulti);
+    }
+
+    private static String palabra(Random random, int longitud) {
+        char[] buffer = new char[longitud];
+        for (int i = 0; i < longitud; i++) {
+            buffer[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(buffer);
+    }
+}
@@ -0,0 +1,77 @@
+package automatas.test;
+
+import automatas.algoritmos.Conversion;
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.regex.LanguageParser;
+import automatas.regex.RegexAST.Node;
+import automatas.regex.RegexParser;
+import automatas.regex.SimplificadorRegex;
+import automatas.regex.ThompsonConstructor;
+
+/**
+ * Estados del AFND de Thompson y tiempo de {@link Conversion} con y sin
+ * {@link SimplificadorRegex}, sobre expresiones generadas por
+ * {@link LanguageParser} y algunas escritas a mano con redundancias.
+ */
+public class BenchmarkSimplificador {
+
+    private static final int REPETICIONES = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== BENCHMARK Simplificador de expresiones ===\n");
+
+        String[][] lenguajes = {
+            {"0^n 1^m", "n es par, m >= 0"},
+            {"a^n b^m c^k", "n es par, m >= 1, k <= 3"},
+            {"a^n b^m", "n >= 20, m <= 30"},
+            {"a^n b^m c^k", "n es impar, m es par, k >= 2"}
+        };
+        for (String[] lenguaje : lenguajes) {
+            comparar(new LanguageParser(lenguaje[0], lenguaje[1]).parse());
+        }
+        String[] expresiones = {
+            "((a)*)*((b)?)*(c|c|d)",
+            "(abc|abd|abe|acd)*(x|y)?",
+            "((a|b)*|c)*((ab|ac)|(ad|ae))",
+            "(if|int|in|for|float|foo)(a|b)*"
+        };
+        for (String regex : expresiones) {
+            comparar(regex);
+        }
+    }
+
+    private static void comparar(String regex) throws Exception {
+        Node ast = new RegexParser(regex).parse();
+        Node simplificado = new SimplificadorRegex().simplificar(ast);
+
+        AFND original = new ThompsonConstructor().construir(ast);
+        AFND reducido = new ThompsonConstructor().construir(simplificado);
+        double msOriginal = convertir(original);
+        double msReducido = convertir(reducido);
+
+        System.out.printf("%-36s estados AFND %5d -> %-5d conversión %7.2f -> %7.2f ms%n",
+                regex.length() > 36 ? regex.substring(0, 33) + "..." : regex,
+                original.getEstados().size(), reducido.getEstados().size(),
+                msOriginal, msReducido);
+        System.out.printf("%36s %s%n", "", simplificado);
+    }
+
+    private static double convertir(AFND afnd) throws Exception {
+        double mejor = Double.MAX_VALUE;
+        for (int r = 0; r < REPETICIONES; r++) {
+            // Un AFND nuevo cada vez para no reutilizar la forma compilada en caché
+            AFND copia = new AFND(afnd.getEstados(), afnd.getAlfabeto(), afnd.getTransiciones(),
+                    afnd.getEstadoInicial(), afnd.getEstadosFinales());
+            Conversion conversion = new Conversion(copia);
+            conversion.setGuardarCSV(false);
+            long inicio = System.nanoTime();
+            AFD afd = conversion.convertir();
+            mejor = Math.min(mejor, (System.nanoTime() - inicio) / 1e6);
+            if (afd.getEstados().isEmpty()) {
+                throw new IllegalStateException("AFD vacío");
+            }
+        }
+        return mejor;
+    }
+}
@@ -0,0 +1,61 @@
+package automatas.test;
+
+import automatas.algoritmos.Determinizador;
+import automatas.core.AFNDCompilado;
+import java.util.Random;
+
+/**
+ * Carga y mediciones comunes a los benchmarks que comparan dos AFND del mismo
+ * lenguaje: simulación por bits sobre cadenas al azar y construcción por
+ * subconjuntos.
+ */
+final class MedidorAFND {
+
+    static final int CADENAS = 20_000;
+    static final int LONGITUD = 200;
+
+    private static final int CALENTAMIENTO = 1;
+    private static final int MEDICIONES = 5;
+
+    private MedidorAFND() {
+    }
+
+    /**
+     * {@link #CADENAS} cadenas sobre {a, b, c} de largo menor que {@link #LONGITUD}.
+     */
+    static String[] generar(Random random) {
+        String[] cadenas = new String[CADENAS];
+        char[] buffer = new char[LONGITUD];
+        for (int i = 0; i < CADENAS; i++) {
+            int largo = random.nextInt(LONGITUD);
+            for (int j = 0; j < largo; j++) {
+                buffer[j] = (char) ('a' + random.nextInt(3));
+            }
+            cadenas[i] = new String(buffer, 0, largo);
+        }
+        return cadenas;
+    }
+
+    /**
+     * Mejor tiempo, en ms, de evaluar todas las cadenas con la simulación por bits.
+     */
+    static double simular(AFNDCompilado afnd, String[] cadenas) {
+        return MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES, () -> {
+            int aceptadas = 0;
+            for (String c : cadenas) {
+                if (afnd.acepta(c)) {
+                    aceptadas++;
+                }
+            }
+            return aceptadas;
+        }) / 1e6;
+    }
+
+    /**
+     * Mejor tiempo, en ms, de la construcción por subconjuntos.
+     */
+    static double determinizar(AFNDCompilado afnd) {
+        return MedidorTiempo.medir(CALENTAMIENTO, MEDICIONES,
+                () -> new Determinizador(afnd).getNumEstados()) / 1e6;
+    }
+}
@@ -0,0 +1,23 @@
+package automatas.test;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes asignados en el heap por el hilo actual, para las pruebas que miden
+ * asignación de memoria.
+ */
+final class MedidorAsignacion {
+
+    private static final com.sun.management.ThreadMXBean MX =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private MedidorAsignacion() {
+    }
+
+    /**
+     * Total acumulado desde que arrancó el hilo; se mide restando dos lecturas.
+     */
+    static long bytesAsignados() {
+        return MX.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
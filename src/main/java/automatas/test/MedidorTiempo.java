@@ -0,0 +1,34 @@
+package automatas.test;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Mejor tiempo de una tarea tras calentarla, para los benchmarks que comparan
+ * variantes de un mismo cálculo.
+ */
+final class MedidorTiempo {
+
+    // Evita que el JIT descarte el trabajo medido
+    private static volatile int sumidero;
+
+    private MedidorTiempo() {
+    }
+
+    /**
+     * Ejecuta la tarea {@code calentamiento} veces sin medir y devuelve el
+     * menor de {@code mediciones} tiempos, en nanosegundos. El resultado de la
+     * tarea se acumula en un campo volátil para que no se elimine su cálculo.
+     */
+    static double medir(int calentamiento, int mediciones, IntSupplier tarea) {
+        for (int i = 0; i < calentamiento; i++) {
+            sumidero += tarea.getAsInt();
+        }
+        long mejor = Long.MAX_VALUE;
+        for (int i = 0; i < mediciones; i++) {
+            long inicio = System.nanoTime();
+            sumidero += tarea.getAsInt();
+            mejor = Math.min(mejor, System.nanoTime() - inicio);
+        }
+        return mejor;
+    }
+}
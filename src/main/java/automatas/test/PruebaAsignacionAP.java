@@ -0,0 +1,55 @@
+package automatas.test;
+
+import automatas.core.AP;
+import automatas.generador.GeneradorAP;
+
+/**
+ * Mide la memoria asignada por el motor de retroceso del AP sobre a^n b^n.
+ * Con la pila persistente cada transición solo crea los nodos de los símbolos
+ * que apila, así que los bytes por símbolo deben mantenerse constantes al
+ * crecer n (con la pila clonada en cada rama el crecimiento era cuadrático).
+ */
+public class PruebaAsignacionAP {
+
+    private static final int[] TAMANOS = {25_000, 50_000, 100_000, 200_000};
+
+    public static void main(String[] args) throws Exception {
+        // El backtracking es recursivo: se ejecuta en un hilo con pila amplia
+        Thread hilo = new Thread(null, () -> {
+            try {
+                medir();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, "prueba-asignacion-ap", 1L << 30);
+        hilo.start();
+        hilo.join();
+    }
+
+    private static void medir() throws Exception {
+        AP ap = GeneradorAP.generar("a^n b^n");
+        ap.setModoAceptacion(AP.ModoAceptacion.RETROCESO);
+
+        System.out.println("=== ASIGNACIÓN DEL AP (retroceso) sobre a^n b^n ===\n");
+
+        // Calentamiento
+        ap.acepta(cadena(1000));
+
+        for (int n : TAMANOS) {
+            String entrada = cadena(n);
+
+            long antes = MedidorAsignacion.bytesAsignados();
+            long inicio = System.nanoTime();
+            boolean acepta = ap.acepta(entrada);
+            long tiempo = System.nanoTime() - inicio;
+            long bytes = MedidorAsignacion.bytesAsignados() - antes;
+
+            System.out.printf("n=%d: acepta=%b, %.1f MB asignados, %.1f bytes/símbolo, %.1f ms%n",
+                    n, acepta, bytes / 1e6, (double) bytes / entrada.length(), tiempo / 1e6);
+        }
+    }
+
+    private static String cadena(int n) {
+        return "a".repeat(n) + "b".repeat(n);
+    }
+}
@@ -0,0 +1,139 @@
+package automatas.test;
+
+import automatas.algoritmos.BuscadorAFD;
+import automatas.algoritmos.Determinizador;
+import automatas.core.AFD;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueba de {@link BuscadorAFD} contra una búsqueda por fuerza bruta con
+ * {@code acepta}: coincidencias leftmost-longest, coincidencias vacías y
+ * caracteres fuera del alfabeto, con el AFD parcial del determinizador y con
+ * su versión completa (sumidero explícito).
+ */
+public class PruebaBuscadorAFD {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== PRUEBA BuscadorAFD (leftmost-longest) ===\n");
+
+        // Casos a mano: coincidencia más larga, vacías (a*) y símbolos ajenos (x)
+        mostrar("ab|abab", "xxababab");
+        mostrar("a*", "baaxa");
+        mostrar("(ab)*c", "abxabcababc");
+        mostrar("a(b|c)*", "xyz");
+
+        // Comparación al azar, incluyendo 'x' que no está en ningún alfabeto
+        String[] expresiones = {"a*", "ab|abab", "(a|b)*abb", "(ab)*c?", "b(a|c)*b", "a?", "(a|b){2,3}"};
+        Random random = new Random(9);
+        int textos = 0;
+        for (String regex : expresiones) {
+            for (AFD afd : new AFD[]{afd(regex), completar(afd(regex))}) {
+                comparar(regex, afd, random);
+                textos += 2000;
+            }
+        }
+        System.out.printf("%n%d textos comparados con fuerza bruta: sin diferencias%n", textos);
+
+        // Con sumidero explícito cada coincidencia debe cortar al entrar en él,
+        // no recorrer el resto del texto: doblar n debe doblar el tiempo
+        BuscadorAFD completo = new BuscadorAFD(completar(afd("ab")));
+        for (int n = 40_000; n <= 320_000; n *= 2) {
+            String texto = "ab".repeat(n / 2);
+            long inicio = System.nanoTime();
+            int encontradas = completo.buscarTodas(texto).size();
+            if (encontradas != n / 2) {
+                throw new IllegalStateException("se esperaban " + n / 2 + " coincidencias y hubo " + encontradas);
+            }
+            System.out.printf("ab completo sobre \"abab...\" n=%d: %d coincidencias en %.2f ms%n",
+                    n, encontradas, (System.nanoTime() - inicio) / 1e6);
+        }
+    }
+
+    private static void comparar(String regex, AFD afd, Random random) throws Exception {
+        BuscadorAFD buscador = new BuscadorAFD(afd);
+        for (int i = 0; i < 2000; i++) {
+            String texto = textoAlAzar(random);
+            List<BuscadorAFD.Coincidencia> esperado = fuerzaBruta(afd, texto);
+            List<BuscadorAFD.Coincidencia> obtenido = buscador.buscarTodas(texto);
+            if (!esperado.equals(obtenido)) {
+                throw new IllegalStateException(regex + " sobre \"" + texto + "\": se esperaba "
+                        + esperado + " y se obtuvo " + obtenido);
+            }
+            BuscadorAFD.Coincidencia primera = buscador.buscarPrimera(texto);
+            if (!(esperado.isEmpty() ? primera == null : esperado.get(0).equals(primera))) {
+                throw new IllegalStateException(regex + " sobre \"" + texto + "\": primera " + primera);
+            }
+        }
+    }
+
+    private static void mostrar(String regex, String texto) throws Exception {
+        BuscadorAFD buscador = new BuscadorAFD(afd(regex));
+        System.out.printf("%-10s en %-14s -> %s%n", regex, "\"" + texto + "\"", buscador.buscarTodas(texto));
+    }
+
+    private static AFD afd(String regex) {
+        return new Determinizador(new ThompsonConstructor().construir(new RegexParser(regex).parse()).compilar()).aAFD();
+    }
+
+    /**
+     * El mismo AFD con un estado sumidero no final que recibe todas las
+     * transiciones que faltaban.
+     */
+    private static AFD completar(AFD afd) {
+        String sumidero = "sumidero";
+        Set<String> estados = new HashSet<>(afd.getEstados());
+        estados.add(sumidero);
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        for (String estado : estados) {
+            Map<Character, String> salida = new HashMap<>(afd.getTransiciones().getOrDefault(estado, Map.of()));
+            for (Character c : afd.getAlfabeto()) {
+                salida.putIfAbsent(c, sumidero);
+            }
+            transiciones.put(estado, salida);
+        }
+        return new AFD(estados, new HashSet<>(afd.getAlfabeto()), transiciones,
+                afd.getEstadoInicial(), new HashSet<>(afd.getEstadosFinales()));
+    }
+
+    /**
+     * Desde cada posición, la coincidencia más larga; una vacía avanza una
+     * posición y una no vacía salta a su fin.
+     */
+    private static List<BuscadorAFD.Coincidencia> fuerzaBruta(AFD afd, String texto) {
+        List<BuscadorAFD.Coincidencia> resultado = new ArrayList<>();
+        int i = 0;
+        while (i <= texto.length()) {
+            int fin = -1;
+            for (int j = i; j <= texto.length(); j++) {
+                if (afd.acepta(texto.substring(i, j))) {
+                    fin = j;
+                }
+            }
+            if (fin < 0) {
+                i++;
+                continue;
+            }
+            resultado.add(new BuscadorAFD.Coincidencia(i, fin));
+            i = fin > i ? fin : i + 1;
+        }
+        return resultado;
+    }
+
+    private static String textoAlAzar(Random random) {
+        String simbolos = "abcx";
+        StringBuilder sb = new StringBuilder();
+        int largo = random.nextInt(12);
+        for (int i = 0; i < largo; i++) {
+            sb.append(simbolos.charAt(random.nextInt(simbolos.length())));
+        }
+        return sb.toString();
+    }
+}
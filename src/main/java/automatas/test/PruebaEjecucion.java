@@ -0,0 +1,125 @@
+package automatas.test;
+
+import automatas.core.AFD;
+import automatas.core.AFND;
+import automatas.core.Automata;
+import automatas.core.Ejecucion;
+import automatas.regex.RegexParser;
+import automatas.regex.ThompsonConstructor;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueba de la API incremental ({@link Ejecucion}): alimentar por partes da
+ * lo mismo que {@code acepta}, y un flujo que cae en un estado muerto deja de
+ * leerse en el primer bloque, también cuando el AFD es completo y el estado
+ * muerto es explícito.
+ */
+public class PruebaEjecucion {
+
+    /** Caracteres del flujo infinito simulado. */
+    private static final long LARGO_FLUJO = 1L << 30;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== PRUEBA Ejecución incremental ===\n");
+
+        AFD completo = abEstrellaC();
+        AFND afnd = new ThompsonConstructor().construir(new RegexParser("ab*c").parse());
+
+        Random random = new Random(7);
+        for (Automata automata : new Automata[]{completo, afnd}) {
+            int errores = 0;
+            for (int i = 0; i < 20_000; i++) {
+                String cadena = cadenaAlAzar(random);
+                Ejecucion ejecucion = automata.iniciarEjecucion();
+                int desde = 0;
+                while (desde < cadena.length()) {
+                    int hasta = Math.min(cadena.length(), desde + 1 + random.nextInt(3));
+                    ejecucion.alimentar(cadena.subSequence(desde, hasta));
+                    desde = hasta;
+                }
+                if (ejecucion.acepta() != automata.acepta(cadena)) {
+                    errores++;
+                }
+            }
+            System.out.printf("%-4s por partes vs acepta: %d diferencias%n",
+                    automata.getClass().getSimpleName(), errores);
+        }
+
+        // Tras "c" el AFD completo está en el sumidero: solo se lee un bloque
+        for (Automata automata : new Automata[]{completo, afnd}) {
+            Ejecucion ejecucion = automata.iniciarEjecucion();
+            long inicio = System.nanoTime();
+            long leidos = ejecucion.alimentar(new FlujoRepetido('c'));
+            double ms = (System.nanoTime() - inicio) / 1e6;
+            System.out.printf("%-4s flujo \"ccc...\" de %d caracteres: muerta=%b, leídos %d en %.2f ms%n",
+                    automata.getClass().getSimpleName(), LARGO_FLUJO, ejecucion.estaMuerta(), leidos, ms);
+        }
+
+        // Un prefijo válido seguido de basura sigue vivo mientras pueda aceptar
+        Ejecucion ejecucion = completo.iniciarEjecucion();
+        ejecucion.alimentar("abbb");
+        System.out.printf("AFD  \"abbb\": muerta=%b, acepta=%b%n", ejecucion.estaMuerta(), ejecucion.acepta());
+        ejecucion.alimentar("c");
+        System.out.printf("AFD  \"abbbc\": muerta=%b, acepta=%b%n", ejecucion.estaMuerta(), ejecucion.acepta());
+        ejecucion.alimentar("a");
+        System.out.printf("AFD  \"abbbca\": muerta=%b, acepta=%b%n", ejecucion.estaMuerta(), ejecucion.acepta());
+    }
+
+    /**
+     * AFD completo de ab*c sobre {a, b, c}, con el sumidero explícito.
+     */
+    private static AFD abEstrellaC() {
+        Map<String, Map<Character, String>> transiciones = new HashMap<>();
+        transiciones.put("q0", Map.of('a', "q1", 'b', "muerto", 'c', "muerto"));
+        transiciones.put("q1", Map.of('a', "muerto", 'b', "q1", 'c', "q2"));
+        transiciones.put("q2", Map.of('a', "muerto", 'b', "muerto", 'c', "muerto"));
+        transiciones.put("muerto", Map.of('a', "muerto", 'b', "muerto", 'c', "muerto"));
+        return new AFD(Set.of("q0", "q1", "q2", "muerto"), Set.of('a', 'b', 'c'),
+                transiciones, "q0", Set.of("q2"));
+    }
+
+    private static String cadenaAlAzar(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextBoolean()) {
+            sb.append('a');
+        }
+        int largo = random.nextInt(8);
+        for (int i = 0; i < largo; i++) {
+            sb.append((char) ('a' + random.nextInt(3)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Lector de {@link #LARGO_FLUJO} copias de un carácter, sin tenerlas en memoria.
+     */
+    private static final class FlujoRepetido extends Reader {
+        private final char simbolo;
+        private long restantes = LARGO_FLUJO;
+
+        FlujoRepetido(char simbolo) {
+            this.simbolo = simbolo;
+        }
+
+        @Override
+        public int read(char[] buffer, int desde, int longitud) {
+            if (restantes == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(longitud, restantes);
+            Arrays.fill(buffer, desde, desde + n, simbolo);
+            restantes -= n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
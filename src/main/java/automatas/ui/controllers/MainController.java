@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.util.Optional;
 
 import automatas.algoritmos.Conversion;
+import automatas.algoritmos.Determinizador;
+import automatas.algoritmos.EstimadorTamano;
 import automatas.core.AFD;
 import automatas.core.AFND;
 import automatas.core.AP;
@@ -15,6 +17,7 @@ import automatas.io.LectorAutomata;
 import automatas.regex.LanguageParser;
 import automatas.regex.RegexAST;
 import automatas.regex.RegexParser;
+import automatas.regex.SimplificadorRegex;
 import automatas.regex.ThompsonConstructor;
 import automatas.visual.AutomataRenderer;
 import javafx.fxml.FXML;
@@ -281,6 +284,9 @@ public class MainController {
                 RegexParser parser = new RegexParser(pl.parse());
                 RegexAST.Node ast = parser.parse();
 
+                // Quitar redundancias antes de construir el autómata
+                ast = new SimplificadorRegex().simplificar(ast);
+
                 // Construir AFND usando Thompson
                 ThompsonConstructor thompson = new ThompsonConstructor();
                 AFND afnd = thompson.convert(ast);
@@ -459,9 +465,27 @@ public class MainController {
         try {
             AFND afnd = (AFND) automataActual;
 
-            // Realizar la conversión
+            // Estimar antes de determinizar: si el AFD seguro no cabe en el presupuesto
+            // se conserva el AFND; con confianza baja decide el presupuesto de la conversión
+            Determinizador.Limites limites = Determinizador.Limites.porDefecto();
+            EstimadorTamano.Estimacion estimacion = new EstimadorTamano(afnd).estimar();
+            if (estimacion.confianza() != EstimadorTamano.Confianza.BAJA
+                    && estimacion.estados() > limites.estados()) {
+                mensaje("El AFD tendría unos " + estimacion.estados() + " estados (confianza "
+                        + estimacion.confianza() + "), se mantiene el AFND.");
+                return;
+            }
+
+            // Realizar la conversión; si explota se conserva el AFND
             Conversion conversion = new Conversion(afnd);
-            AFD afd = conversion.convertir();
+            conversion.setLimites(limites);
+            Automata resultado = conversion.convertirConRespaldo();
+            if (conversion.getExplosion() != null) {
+                mensaje("No se convirtió a AFD, se mantiene el AFND.\n"
+                        + conversion.getExplosion().getMessage());
+                return;
+            }
+            AFD afd = (AFD) resultado;
 
             // Actualizar el autómata actual
             this.automataActual = afd;